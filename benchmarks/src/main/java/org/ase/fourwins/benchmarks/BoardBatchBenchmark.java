@@ -0,0 +1,74 @@
+package org.ase.fourwins.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+
+import java.util.SplittableRandom;
+
+import org.ase.fourwins.board.Board.Score;
+import org.ase.fourwins.board.BoardBatch;
+import org.ase.fourwins.board.BoardInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plays a {@link BoardBatch} of random games until all boards have ended.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBatchBenchmark {
+
+	@Param({ "1024" })
+	int boards;
+
+	private BoardBatch batch;
+	private int[][] columns;
+	private Score[] results;
+
+	@Setup
+	public void setup() {
+		BoardInfo boardInfo = BoardInfo.sevenColsSixRows;
+		SplittableRandom random = new SplittableRandom(42);
+		batch = new BoardBatch(boardInfo, boards);
+		int cells = boardInfo.getColumns() * boardInfo.getRows();
+		columns = new int[cells][boards];
+		for (int[] move : columns) {
+			for (int i = 0; i < move.length; i++) {
+				move[i] = random.nextInt(boardInfo.getColumns());
+			}
+		}
+		results = new Score[boards];
+	}
+
+	@Benchmark
+	public Score[] playBatch() {
+		batch.reset();
+		for (int move = 0; move < columns.length && anyInGame(); move++) {
+			batch.insertTokens(columns[move], results);
+		}
+		return results;
+	}
+
+	private boolean anyInGame() {
+		for (int i = 0; i < boards; i++) {
+			if (batch.score(i) == IN_GAME) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,74 @@
+package org.ase.fourwins.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.ase.fourwins.benchmarks.Games.drawnGame;
+import static org.ase.fourwins.benchmarks.Games.parse;
+import static org.ase.fourwins.benchmarks.Games.play;
+import static org.ase.fourwins.benchmarks.Games.randomGame;
+
+import java.util.SplittableRandom;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plays whole games on a new {@link Board}, boardInfo is given as
+ * <code>columns x rows x toConnect</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+	private static final int GAMES = 1024;
+
+	@Param({ "7x6x4", "9x8x4", "100x100x5", "500x20x8", "1000x1000x6" })
+	String boardInfo;
+
+	private BoardInfo info;
+	private Move[][] randomGames;
+	private Move[] drawnGame;
+	private int next;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		info = parse(boardInfo);
+		randomGames = new Move[GAMES][];
+		for (int i = 0; i < randomGames.length; i++) {
+			randomGames[i] = randomGame(info, random);
+		}
+		drawnGame = info.getColumns() * info.getRows() <= 100 ? drawnGame(info, random) : randomGames[0];
+	}
+
+	@Benchmark
+	public Board playRandomGame() {
+		next = (next + 1) % randomGames.length;
+		return play(Board.newBoard(info), randomGames[next]);
+	}
+
+	/**
+	 * Worst case for small boards: every cell gets filled without a line being
+	 * connected (large boards play a random game instead).
+	 */
+	@Benchmark
+	public Board playDrawnGame() {
+		return play(Board.newBoard(info), drawnGame);
+	}
+
+}
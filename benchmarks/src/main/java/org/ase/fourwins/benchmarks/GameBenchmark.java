@@ -0,0 +1,54 @@
+package org.ase.fourwins.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.ase.fourwins.benchmarks.Games.parse;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.DefaultGame;
+import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.Game.GameId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DefaultGame#runGame()} of two in-memory {@link RandomPlayer}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+	private static final GameId GAME_ID = new GameId("benchmark");
+
+	@Param({ "7x6x4", "100x100x5" })
+	String boardInfo;
+
+	private BoardInfo info;
+	private RandomPlayer player1, player2;
+
+	@Setup
+	public void setup() {
+		info = parse(boardInfo);
+		player1 = new RandomPlayer("X", 1);
+		player2 = new RandomPlayer("O", 2);
+	}
+
+	@Benchmark
+	public Game runGame() {
+		return new DefaultGame(Board.newBoard(info), GAME_ID, player1, player2).runGame();
+	}
+
+}
@@ -0,0 +1,95 @@
+package org.ase.fourwins.benchmarks;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Board.Score.LOSE;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.board.Move.moveToColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.Board.Score;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.Move;
+import org.ase.fourwins.board.Tokens;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * Precomputed move sequences so benchmarks only measure the board and not the
+ * generation of the moves.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class Games {
+
+	public static final Tokens TOKENS = Tokens.of("X", "O");
+
+	public static BoardInfo parse(String columnsRowsToConnect) {
+		String[] values = columnsRowsToConnect.split("x");
+		return BoardInfo.builder().columns(Integer.parseInt(values[0])).rows(Integer.parseInt(values[1]))
+				.toConnect(Integer.parseInt(values[2])).build();
+	}
+
+	/**
+	 * Random legal moves until the game has ended.
+	 */
+	public static Move[] randomGame(BoardInfo boardInfo, SplittableRandom random) {
+		int[] heights = new int[boardInfo.getColumns()];
+		List<Move> moves = new ArrayList<>();
+		Board board = Board.newBoard(boardInfo);
+		while (board.gameState().getScore() == IN_GAME) {
+			int column = random.nextInt(heights.length);
+			while (heights[column] >= boardInfo.getRows()) {
+				column = (column + 1) % heights.length;
+			}
+			heights[column]++;
+			Move move = moveToColumn(column);
+			board = board.insertToken(move, TOKENS, moves.size() % 2);
+			moves.add(move);
+		}
+		return moves.toArray(Move[]::new);
+	}
+
+	/**
+	 * Moves filling the whole board without any line connected, so each cell gets
+	 * checked for lines.
+	 */
+	public static Move[] drawnGame(BoardInfo boardInfo, SplittableRandom random) {
+		int cells = boardInfo.getColumns() * boardInfo.getRows();
+		List<Move> moves = new ArrayList<>();
+		while (moves.size() < cells) {
+			Move next = nonWinningMove(boardInfo, moves, random);
+			if (next == null) {
+				moves.clear();
+			} else {
+				moves.add(next);
+			}
+		}
+		return moves.toArray(Move[]::new);
+	}
+
+	private static Move nonWinningMove(BoardInfo boardInfo, List<Move> moves, SplittableRandom random) {
+		int offset = random.nextInt(boardInfo.getColumns());
+		for (int i = 0; i < boardInfo.getColumns(); i++) {
+			Move move = moveToColumn((offset + i) % boardInfo.getColumns());
+			List<Move> candidate = new ArrayList<>(moves);
+			candidate.add(move);
+			Score score = play(Board.newBoard(boardInfo), candidate.toArray(Move[]::new)).gameState().getScore();
+			if (score != WIN && score != Board.Score.LOSE) {
+				return move;
+			}
+		}
+		return null;
+	}
+
+	public static Board play(Board board, Move[] moves) {
+		for (int i = 0; i < moves.length; i++) {
+			board = board.insertToken(moves[i], TOKENS, i % 2);
+		}
+		return board;
+	}
+
+}
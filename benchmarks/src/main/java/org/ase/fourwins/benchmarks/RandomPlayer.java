@@ -0,0 +1,44 @@
+package org.ase.fourwins.benchmarks;
+
+import java.util.SplittableRandom;
+
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Player;
+
+/**
+ * In-memory {@link Player} choosing a random column that is not full yet. The
+ * columns are seeded so runs are reproducible.
+ */
+public class RandomPlayer extends Player {
+
+	private final SplittableRandom random;
+	private int rows;
+	private int[] heights;
+
+	public RandomPlayer(String token, long seed) {
+		super(token);
+		this.random = new SplittableRandom(seed);
+	}
+
+	@Override
+	public boolean joinGame(String opposites, BoardInfo boardInfo) {
+		this.rows = boardInfo.getRows();
+		this.heights = new int[boardInfo.getColumns()];
+		return true;
+	}
+
+	@Override
+	protected int nextColumn() {
+		int column = random.nextInt(heights.length);
+		while (heights[column] >= rows) {
+			column = (column + 1) % heights.length;
+		}
+		return column;
+	}
+
+	@Override
+	protected void tokenWasInserted(String token, int column) {
+		heights[column]++;
+	}
+
+}
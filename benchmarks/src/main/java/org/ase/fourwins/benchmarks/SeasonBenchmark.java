@@ -0,0 +1,51 @@
+package org.ase.fourwins.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.List;
+
+import org.ase.fourwins.season.Matchday;
+import org.ase.fourwins.season.Season;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Creates all matches of a {@link Season}, a season of n teams has
+ * <code>n * (n - 1)</code> matches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class SeasonBenchmark {
+
+	@Param({ "10", "100", "1000", "10000" })
+	int teams;
+
+	private List<String> teamNames;
+
+	@Setup
+	public void setup() {
+		teamNames = range(0, teams).mapToObj(i -> "Team " + i).collect(toList());
+	}
+
+	@Benchmark
+	public void getMatchdays(Blackhole blackhole) {
+		new Season<>(teamNames).getMatchdays().flatMap(Matchday::getMatches).forEach(blackhole::consume);
+	}
+
+}
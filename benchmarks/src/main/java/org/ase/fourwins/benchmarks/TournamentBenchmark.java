@@ -0,0 +1,80 @@
+package org.ase.fourwins.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.Player;
+import org.ase.fourwins.tournament.DefaultTournament;
+import org.ase.fourwins.tournament.listener.TournamentListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link DefaultTournament#playSeason(java.util.Collection, java.util.function.Consumer)}
+ * of in-memory {@link RandomPlayer}s with listeners attached that get informed
+ * about each game and move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentBenchmark {
+
+	private static final class CountingListener implements TournamentListener {
+
+		private final LongAdder events = new LongAdder();
+
+		@Override
+		public void gameStarted(Game game) {
+			events.increment();
+		}
+
+		@Override
+		public void gameEnded(Game game) {
+			events.increment();
+		}
+
+		@Override
+		public void newTokenAt(Game game, String token, int column) {
+			events.increment();
+		}
+
+	}
+
+	@Param({ "2", "10", "50" })
+	int players;
+
+	private DefaultTournament tournament;
+	private List<Player> playerList;
+
+	@Setup
+	public void setup() {
+		tournament = new DefaultTournament();
+		tournament.addTournamentListener(new CountingListener());
+		tournament.addTournamentListener(new CountingListener());
+		playerList = range(0, players).mapToObj(i -> new RandomPlayer("P" + i, i)).collect(toList());
+	}
+
+	@Benchmark
+	public void playSeason(Blackhole blackhole) {
+		tournament.playSeason(playerList, blackhole::consume);
+	}
+
+}
@@ -0,0 +1,170 @@
+package org.ase.fourwins.board;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static org.ase.fourwins.board.Coordinate.xy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link Board} keeping the cells of each token as bits of a <code>long</code>.
+ * Each column occupies <code>rows + 1</code> bits (bottom cell first), the
+ * topmost bit of each column is never set so lines cannot wrap into the
+ * neighbouring column. This is why this board can only be used if
+ * <code>columns * (rows + 1) &lt;= 64</code>, see {@link #fits(BoardInfo)}.
+ * <p>
+ * Lines are detected by shifting the token's bits along each direction and
+ * AND-ing them, so no matter how many tokens have to be connected this takes
+ * a handful of operations per direction.
+ */
+final class BitBoard extends SlotBoard {
+
+	/**
+	 * bit distance of two neighbouring cells per direction (vertical, horizontal,
+	 * diagonal, antidiagonal), the order matches the order of the
+	 * {@link WinningCombination}s
+	 */
+	private static final int[][] directions = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { 1, -1 } };
+
+	private final int columnHeight;
+	private final int[] heights;
+	private final int[] shifts;
+	private long[] cells = new long[2];
+
+	static boolean fits(BoardInfo boardInfo) {
+		return (long) boardInfo.getColumns() * (boardInfo.getRows() + 1) <= Long.SIZE;
+	}
+
+	BitBoard(BoardInfo boardInfo) {
+		super(boardInfo);
+		this.columnHeight = boardInfo.getRows() + 1;
+		this.heights = new int[boardInfo.getColumns()];
+		this.shifts = shifts(boardInfo.getRows());
+	}
+
+	@Override
+	protected boolean isColumnFull(int x) {
+		return heights[x] == boardInfo.getRows();
+	}
+
+	@Override
+	protected Board insertTokenAt(int x, int slot) {
+		if (slot >= cells.length) {
+			cells = copyOf(cells, slot + 1);
+		}
+		int h = heights[x]++;
+		long tokenCells = cells[slot] |= bit(x, h);
+		if (isColumnFull(x)) {
+			columnFilled(x);
+		}
+		if (anyLine(tokenCells)) {
+			Object token = tokenOf(slot);
+			return new WinnerBoard(token, winningCombinations(token, tokenCells, x, h), this);
+		}
+		return isFull() ? new DrawBoard(this) : this;
+	}
+
+	@Override
+	protected void clear() {
+		fill(cells, 0);
+		fill(heights, 0);
+	}
+
+	@Override
+	public int height(int column) {
+		return heights[column];
+	}
+
+	@Override
+	protected int cellAt(int x, int y) {
+		long bit = bit(x, boardInfo.getRows() - 1 - y);
+		for (int slot = 0; slot < cells.length; slot++) {
+			if ((cells[slot] & bit) != 0) {
+				return slot + 1;
+			}
+		}
+		return 0;
+	}
+
+	private boolean anyLine(long tokenCells) {
+		for (int shift : shifts) {
+			if (lineStarts(tokenCells, shift) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private long lineStarts(long tokenCells, int shift) {
+		return lineStarts(tokenCells, shift, boardInfo.getToConnect());
+	}
+
+	/**
+	 * Returns the bits where a line of <code>toConnect</code> cells starts. The
+	 * length of the lines checked is doubled with each iteration.
+	 */
+	static long lineStarts(long tokenCells, int shift, int toConnect) {
+		long starts = tokenCells;
+		for (int length = 1; starts != 0 && length < toConnect;) {
+			int step = Math.min(length, toConnect - length);
+			starts &= shiftRight(starts, step * shift);
+			length += step;
+		}
+		return starts;
+	}
+
+	/**
+	 * Returns the bit distances of neighbouring cells for boards whose columns have
+	 * <code>rows</code> rows.
+	 */
+	static int[] shifts(int rows) {
+		int columnHeight = rows + 1;
+		return new int[] { 1, columnHeight, columnHeight + 1, columnHeight - 1 };
+	}
+
+	private static long shiftRight(long bits, int distance) {
+		return distance >= Long.SIZE ? 0 : bits >>> distance;
+	}
+
+	private List<WinningCombination> winningCombinations(Object token, long tokenCells, int x, int h) {
+		List<WinningCombination> combinations = new ArrayList<>(directions.length);
+		for (int i = 0; i < directions.length; i++) {
+			if (lineStarts(tokenCells, shifts[i]) != 0) {
+				combinations.add(new WinningCombination(token, coordinate(x, h),
+						connected(tokenCells, x, h, directions[i][0], directions[i][1])));
+			}
+		}
+		return combinations;
+	}
+
+	private Set<Coordinate> connected(long tokenCells, int x, int h, int dx, int dh) {
+		Set<Coordinate> coordinates = new HashSet<>();
+		coordinates.add(coordinate(x, h));
+		addConnected(coordinates, tokenCells, x, h, dx, dh);
+		addConnected(coordinates, tokenCells, x, h, -dx, -dh);
+		return coordinates;
+	}
+
+	private void addConnected(Set<Coordinate> coordinates, long tokenCells, int x, int h, int dx, int dh) {
+		for (x += dx, h += dh; isSet(tokenCells, x, h); x += dx, h += dh) {
+			coordinates.add(coordinate(x, h));
+		}
+	}
+
+	private boolean isSet(long tokenCells, int x, int h) {
+		return x >= 0 && x < heights.length && h >= 0 && h < boardInfo.getRows() && (tokenCells & bit(x, h)) != 0;
+	}
+
+	private Coordinate coordinate(int x, int h) {
+		// coordinates are counted from the top row
+		return xy(x, boardInfo.getRows() - 1 - h);
+	}
+
+	private long bit(int x, int h) {
+		return 1L << (x * columnHeight + h);
+	}
+
+}
@@ -1,32 +1,15 @@
 package org.ase.fourwins.board;
 
-import static java.util.Arrays.stream;
+import static java.util.Arrays.fill;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
-import static java.util.stream.Stream.generate;
-import static java.util.stream.Stream.iterate;
-import static org.ase.fourwins.board.Board.Direction.EAST;
-import static org.ase.fourwins.board.Board.Direction.NORTH;
-import static org.ase.fourwins.board.Board.Direction.NORTHEAST;
-import static org.ase.fourwins.board.Board.Direction.NORTHWEST;
-import static org.ase.fourwins.board.Board.Direction.SOUTH;
-import static org.ase.fourwins.board.Board.Direction.SOUTHEAST;
-import static org.ase.fourwins.board.Board.Direction.SOUTHWEST;
-import static org.ase.fourwins.board.Board.Direction.WEST;
-import static org.ase.fourwins.board.Board.Line.fromTo;
 import static org.ase.fourwins.board.Board.Score.DRAW;
-import static org.ase.fourwins.board.Board.Score.IN_GAME;
 import static org.ase.fourwins.board.Board.Score.LOSE;
 import static org.ase.fourwins.board.Board.Score.WIN;
-import static org.ase.fourwins.board.Coordinate.xy;
 
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,23 +21,19 @@ public abstract class Board {
 
 	@RequiredArgsConstructor
 	enum Direction {
-		NORTH(c -> c.mutateY(-1)), //
-		SOUTH(c -> c.mutateY(+1)), //
-		WEST(c -> c.mutateX(-1)), //
-		EAST(c -> c.mutateX(+1)), //
-		NORTHEAST(NORTH.and(EAST)), //
-		SOUTHWEST(SOUTH.and(WEST)), //
-		NORTHWEST(NORTH.and(WEST)), //
-		SOUTHEAST(SOUTH.and(EAST));
+		NORTH(0, -1), //
+		SOUTH(0, +1), //
+		WEST(-1, 0), //
+		EAST(+1, 0), //
+		NORTHEAST(+1, -1), //
+		SOUTHWEST(-1, +1), //
+		NORTHWEST(-1, -1), //
+		SOUTHEAST(+1, +1);
 
-		private final Function<Coordinate, Coordinate> mutator;
-
-		private Function<Coordinate, Coordinate> and(Direction other) {
-			return this.mutator.andThen(other.mutator);
-		}
+		final int mutateX, mutateY;
 
 		public Coordinate mutate(Coordinate coordinate) {
-			return this.mutator.apply(coordinate);
+			return coordinate.mutate(mutateX, mutateY);
 		}
 
 	}
@@ -96,9 +75,9 @@ public abstract class Board {
 	}
 
 	@AllArgsConstructor
-	private static final class DelegateBoard extends Board {
+	static class DelegateBoard extends Board {
 
-		private Board delegate;
+		Board delegate;
 
 		@Override
 		public GameState gameState() {
@@ -116,16 +95,58 @@ public abstract class Board {
 			return this;
 		}
 
+		@Override
+		public Board insertToken(Move move, Tokens tokens, int slot) {
+			delegate = delegate.insertToken(move, tokens, slot);
+			return this;
+		}
+
+		@Override
+		public int height(int column) {
+			return delegate.height(column);
+		}
+
+		@Override
+		public BitSet legalColumns() {
+			return delegate.legalColumns();
+		}
+
+		@Override
+		public boolean isLegalColumn(int column) {
+			return delegate.isLegalColumn(column);
+		}
+
+		@Override
+		public int nextLegalColumn(int fromColumn) {
+			return delegate.nextLegalColumn(fromColumn);
+		}
+
+		@Override
+		public Optional<Object> tokenAt(Coordinate coordinate) {
+			return delegate.tokenAt(coordinate);
+		}
+
+		@Override
+		public BoardSnapshot snapshot() {
+			return delegate.snapshot();
+		}
+
 	}
 
-	private static class UnmodifableBoard extends Board {
+	/**
+	 * Board of an ended game, the position is the one of the board the game was
+	 * played on.
+	 */
+	static class UnmodifableBoard extends Board {
 
 		protected GameState gameState;
 		protected BoardInfo boardInfo;
+		protected final SlotBoard position;
 
-		public UnmodifableBoard(Score score, Object token, BoardInfo boardInfo) {
-			this.boardInfo = boardInfo;
-			this.gameState = GameState.builder().score(score).token(token).build();
+		public UnmodifableBoard(GameState gameState, SlotBoard position) {
+			this.gameState = gameState;
+			this.boardInfo = position.boardInfo();
+			this.position = position;
 		}
 
 		@Override
@@ -143,159 +164,153 @@ public abstract class Board {
 			return this;
 		}
 
-	}
-
-	private static class DrawBoard extends UnmodifableBoard {
-		public DrawBoard(BoardInfo boardInfo) {
-			super(DRAW, null, boardInfo);
+		@Override
+		public int height(int column) {
+			return position.height(column);
 		}
 
 		@Override
-		public Board insertToken(Move move, Object token) {
-			return new LoserBoard(token, "COLUMN_IS_FULL", boardInfo);
+		public BitSet legalColumns() {
+			return new BitSet();
 		}
 
-	}
-
-	private static class WinnerBoard extends UnmodifableBoard {
-
-		public WinnerBoard(Object token, List<WinningCombination> winningCombinatios, BoardInfo boardInfo) {
-			super(WIN, token, boardInfo);
-			this.gameState = gameState.withReason("CONNECTED_LINE").withWinningCombinations(winningCombinatios);
+		@Override
+		public boolean isLegalColumn(int column) {
+			return false;
 		}
 
-	}
+		@Override
+		public int nextLegalColumn(int fromColumn) {
+			return -1;
+		}
 
-	private static class LoserBoard extends UnmodifableBoard {
+		@Override
+		public Optional<Object> tokenAt(Coordinate coordinate) {
+			return position.tokenAt(coordinate);
+		}
 
-		public LoserBoard(Object token, String reason, BoardInfo boardInfo) {
-			super(LOSE, token, boardInfo);
-			this.gameState = gameState.withReason(reason);
+		@Override
+		public BoardSnapshot snapshot() {
+			return position.snapshot(gameState);
 		}
 
 	}
 
-	private static class PlayableBoard extends Board {
+	static class DrawBoard extends UnmodifableBoard {
 
-		private static class Column {
-
-			private final Object[] content;
-			private int fillY;
-
-			public Column(int height) {
-				content = new Object[height];
-				fillY = content.length - 1;
-			}
-
-			private String tokenAt(int y) {
-				Object token = content[y];
-				return token == null ? null : String.valueOf(token);
-			}
+		private static final GameState DRAW_STATE = GameState.builder().score(DRAW).build();
 
-			public int insertToken(Object token) {
-				content[fillY] = token;
-				return fillY--;
-			}
+		public DrawBoard(SlotBoard position) {
+			this(DRAW_STATE, position);
+		}
 
-			public boolean isFull() {
-				return fillY < 0;
-			}
+		protected DrawBoard(GameState gameState, SlotBoard position) {
+			super(gameState, position);
+		}
 
+		@Override
+		public Board insertToken(Move move, Object token) {
+			return new LoserBoard(token, "COLUMN_IS_FULL", position);
 		}
 
-		private static final List<Line> lines = List.of( //
-				fromTo(NORTH, SOUTH), //
-				fromTo(WEST, EAST), //
-				fromTo(SOUTHWEST, NORTHEAST), //
-				fromTo(NORTHWEST, SOUTHEAST) //
-		);
+	}
 
-		private final BoardInfo boardInfo;
-		private final Column[] columns;
-		private GameState gameState = GameState.builder().score(IN_GAME).build();
+	/**
+	 * Board of a game ended before the board was full because no line can be
+	 * connected anymore. As on a full board no column is legal anymore, so
+	 * inserting a token loses (whatever column it is inserted into).
+	 */
+	static class NoLinePossibleBoard extends DrawBoard {
 
-		private PlayableBoard(BoardInfo boardInfo) {
-			this.boardInfo = boardInfo;
-			this.columns = generate(() -> new Column(boardInfo.getRows())).limit(boardInfo.getColumns())
-					.toArray(Column[]::new);
-		}
+		private static final GameState NO_LINE_POSSIBLE = GameState.builder().score(DRAW).reason("NO_LINE_POSSIBLE")
+				.build();
 
-		@Override
-		public GameState gameState() {
-			return gameState;
+		public NoLinePossibleBoard(SlotBoard position) {
+			super(NO_LINE_POSSIBLE, position);
 		}
 
 		@Override
-		public BoardInfo boardInfo() {
-			return boardInfo;
+		public Board insertToken(Move move, Object token) {
+			return new LoserBoard(token, "GAME_ENDED", position);
 		}
 
-		/**
-		 * not thread-safe, has to be synchronized or synchronized by caller
-		 */
-		@Override
-		public Board insertToken(Move move, Object token) {
-			int x = move.getColumnIdx();
-			if (x < 0 || x >= columns.length) {
-				return new LoserBoard(token, "ILLEGAL_COLUMN_ANNOUNCED", boardInfo);
-			}
-			Column columnWhereTokenWasPlaced = columns[x];
-			if (columnWhereTokenWasPlaced.isFull()) {
-				return new LoserBoard(token, "COLUMN_IS_FULL", boardInfo);
-			}
+	}
 
-			int y = columnWhereTokenWasPlaced.insertToken(token);
-			Coordinate posOfInsertedToken = xy(x, y);
-			Collection<Line> connected = lines.stream()
-					.filter(l -> lineToWin(connectedTokens(posOfInsertedToken, token, l))).collect(toList());
-			if (!connected.isEmpty()) {
-				return new WinnerBoard(token, connected.stream()
-						.map(l -> new WinningCombination(token, posOfInsertedToken,
-								connectedTokens(posOfInsertedToken, token, l).collect(toSet())))
-						.collect(toList()), boardInfo);
-			}
-			return isDraw(columnWhereTokenWasPlaced) ? new DrawBoard(boardInfo()) : this;
-		}
+	static class WinnerBoard extends UnmodifableBoard {
 
-		private boolean lineToWin(Stream<Coordinate> connectedTokens) {
-			return connectedTokens.count() >= boardInfo.getToConnect();
-		}
+		private static final GameState CONNECTED_LINE = GameState.builder().score(WIN).reason("CONNECTED_LINE")
+				.build();
 
-		private boolean isDraw(Column columnWhereTokenWasPlaced) {
-			return columnWhereTokenWasPlaced.isFull() && allColumnsFull();
+		public WinnerBoard(Object token, List<WinningCombination> winningCombinatios, SlotBoard position) {
+			super(CONNECTED_LINE.toBuilder().token(token).winningCombinations(winningCombinatios).build(), position);
 		}
 
-		private boolean allColumnsFull() {
-			return stream(columns).allMatch(Column::isFull);
+	}
+
+	static class LoserBoard extends UnmodifableBoard {
+
+		private static final GameState LOSE_STATE = GameState.builder().score(LOSE).build();
+
+		public LoserBoard(Object token, String reason, SlotBoard position) {
+			super(LOSE_STATE.toBuilder().token(token).reason(reason).build(), position);
 		}
 
-		private Stream<Coordinate> connectedTokens(Coordinate center, Object token, Line line) {
-			Stream<Coordinate> neighbours1 = neighboursOfSameToken(center, token, line.from);
-			Stream<Coordinate> self = Stream.of(center);
-			Stream<Coordinate> neighbours2 = neighboursOfSameToken(center, token, line.to);
-			return concat(concat(neighbours1, self), neighbours2);
+	}
+
+	/**
+	 * Board for any {@link BoardInfo}. The tokens are kept as <code>int</code>s in
+	 * one flat array so inserting a token that does not end the game allocates
+	 * nothing, {@link WinningCombination}s are only created when there is a
+	 * winner.
+	 */
+	static class PlayableBoard extends SlotBoard {
+
+		private final int rows;
+		/** slot of the token + 1 per cell (column by column), 0 for empty cells */
+		private final int[] cells;
+		/** next free y per column, y is counted from the top */
+		private final int[] fillY;
+
+		PlayableBoard(BoardInfo boardInfo) {
+			super(boardInfo);
+			this.rows = boardInfo.getRows();
+			this.cells = new int[boardInfo.getColumns() * rows];
+			this.fillY = new int[boardInfo.getColumns()];
+			fill(fillY, rows - 1);
 		}
 
-		private Stream<Coordinate> neighboursOfSameToken(Coordinate center, Object token, Direction direction) {
-			return iterate(center, this::isInBound, direction::mutate).skip(1).takeWhile(c -> token.equals(tokenAt(c)));
+		@Override
+		protected boolean isColumnFull(int x) {
+			return fillY[x] < 0;
 		}
 
-		private boolean isInBound(Coordinate coordinate) {
-			return isInBoundX(coordinate) && isInBoundY(coordinate);
+		@Override
+		protected Board insertTokenAt(int x, int slot) {
+			int y = fillY[x]--;
+			cells[x * rows + y] = slot + 1;
+			if (fillY[x] < 0) {
+				columnFilled(x);
+			}
+			if (connectsLine(x, y, slot)) {
+				return winnerBoard(x, y, slot);
+			}
+			return isFull() ? new DrawBoard(this) : this;
 		}
 
-		private boolean isInBoundX(Coordinate coordinate) {
-			int x = coordinate.getX();
-			return x >= 0 && x < boardInfo.getColumns();
+		@Override
+		protected void clear() {
+			fill(cells, 0);
+			fill(fillY, rows - 1);
 		}
 
-		private boolean isInBoundY(Coordinate coordinate) {
-			int y = coordinate.getY();
-			return y >= 0 && y < boardInfo.getRows();
+		@Override
+		public int height(int column) {
+			return rows - 1 - fillY[column];
 		}
 
-		private String tokenAt(Coordinate coordinate) {
-			return columns[coordinate.getX()].tokenAt(coordinate.getY());
+		@Override
+		protected int cellAt(int x, int y) {
+			return cells[x * rows + y];
 		}
 
 	}
@@ -305,7 +320,17 @@ public abstract class Board {
 	}
 
 	public static Board newBoard(BoardInfo boardInfo) {
-		return new DelegateBoard(new PlayableBoard(boardInfo));
+		return new DelegateBoard(newSlotBoard(boardInfo));
+	}
+
+	static SlotBoard newSlotBoard(BoardInfo boardInfo) {
+		if (BitBoard.fits(boardInfo)) {
+			return new BitBoard(boardInfo);
+		}
+		if (SparseBoard.isSparse(boardInfo)) {
+			return new SparseBoard(boardInfo);
+		}
+		return WideBoard.isWide(boardInfo) ? new WideBoard(boardInfo) : new PlayableBoard(boardInfo);
 	}
 
 	public abstract BoardInfo boardInfo();
@@ -314,4 +339,52 @@ public abstract class Board {
 
 	public abstract Board insertToken(Move move, Object token);
 
+	/**
+	 * Inserts the token stored at <code>slot</code> of the passed {@link Tokens}.
+	 * Boards working on slots internally can skip looking up the token when they
+	 * always get passed the same {@link Tokens}.
+	 */
+	public Board insertToken(Move move, Tokens tokens, int slot) {
+		return insertToken(move, tokens.tokenOf(slot));
+	}
+
+	/**
+	 * Returns the count of tokens in <code>column</code>.
+	 */
+	public abstract int height(int column);
+
+	/**
+	 * Returns the columns a token can be inserted into (bit <code>x</code> set for
+	 * column <code>x</code>), none once the game has ended. The {@link BitSet}
+	 * returned is a copy of the one maintained by the board, use
+	 * {@link #isLegalColumn(int)} or {@link #nextLegalColumn(int)} to query it
+	 * without copying.
+	 */
+	public abstract BitSet legalColumns();
+
+	/**
+	 * Returns <code>true</code> if a token can be inserted into
+	 * <code>column</code>.
+	 */
+	public abstract boolean isLegalColumn(int column);
+
+	/**
+	 * Returns the first column starting at <code>fromColumn</code> a token can be
+	 * inserted into, <code>-1</code> if there is none (like
+	 * {@link BitSet#nextSetBit(int)} of {@link #legalColumns()}).
+	 */
+	public abstract int nextLegalColumn(int fromColumn);
+
+	/**
+	 * Returns the token at the passed {@link Coordinate} (<code>y</code> counted
+	 * from the top row), empty if there is none or the coordinate is not within
+	 * the board.
+	 */
+	public abstract Optional<Object> tokenAt(Coordinate coordinate);
+
+	/**
+	 * Returns an immutable copy of the current position and {@link GameState}.
+	 */
+	public abstract BoardSnapshot snapshot();
+
 }
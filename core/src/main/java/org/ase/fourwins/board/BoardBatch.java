@@ -0,0 +1,173 @@
+package org.ase.fourwins.board;
+
+import static org.ase.fourwins.board.Board.Score.DRAW;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Board.Score.LOSE;
+import static org.ase.fourwins.board.Board.Score.WIN;
+
+import java.util.Arrays;
+
+import org.ase.fourwins.board.Board.Score;
+
+/**
+ * Many boards of the same {@link BoardInfo} played in lockstep, e.g. for
+ * simulations. The boards are not objects but indices into primitive arrays
+ * (one bitboard per player as in {@link BitBoard}), so only boards fitting
+ * into 64 bits are supported.
+ * <p>
+ * Two players take turns on each board, the first player has slot
+ * <code>0</code>. The {@link Score}s reported are the ones of the player that
+ * made the move: {@link Score#WIN} if the move connected a line,
+ * {@link Score#LOSE} if the column was illegal or full, {@link Score#DRAW} if
+ * the board is full afterwards or no line can be connected anymore (as
+ * {@link Board}s do, see {@link OpenLines}). Boards that have ended ignore
+ * further moves.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+public final class BoardBatch {
+
+	private static final Score[] scores = Score.values();
+
+	private final BoardInfo boardInfo;
+	private final int size, columns, rows, columnHeight, toConnect;
+	private final int[] shifts;
+	/** the cells of a board, <code>0</code> if no lines are tracked */
+	private final long boardCells;
+	/** cells per board of the first (slot 0) and second player (slot 1) */
+	private final long[] cells0, cells1;
+	/** height of each column, board by board */
+	private final byte[] heights;
+	private final int[] moves;
+	private final byte[] score;
+
+	public BoardBatch(BoardInfo boardInfo, int size) {
+		if (!BitBoard.fits(boardInfo)) {
+			throw new IllegalArgumentException(
+					"Board " + boardInfo + " exceeds 64 cells (including one sentinel row), cannot be batched");
+		}
+		this.boardInfo = boardInfo;
+		this.size = size;
+		this.columns = boardInfo.getColumns();
+		this.rows = boardInfo.getRows();
+		this.columnHeight = rows + 1;
+		this.toConnect = boardInfo.getToConnect();
+		this.shifts = BitBoard.shifts(rows);
+		this.boardCells = OpenLines.isTracked(boardInfo) ? boardCells(columns, rows) : 0;
+		this.cells0 = new long[size];
+		this.cells1 = new long[size];
+		this.heights = new byte[size * columns];
+		this.moves = new int[size];
+		this.score = new byte[size];
+		reset();
+	}
+
+	public BoardInfo boardInfo() {
+		return boardInfo;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Inserts a token into <code>columns[board]</code> of each board that is still
+	 * in game.
+	 *
+	 * @param columns the column per board
+	 * @param results where to store the resulting {@link Score} per board, may be
+	 *                the same array for each call
+	 * @return <code>results</code>
+	 */
+	public Score[] insertTokens(int[] columns, Score[] results) {
+		if (columns.length != size || results.length != size) {
+			throw new IllegalArgumentException("Expected " + size + " columns and results but got "
+					+ columns.length + " columns and " + results.length + " results");
+		}
+		for (int board = 0; board < size; board++) {
+			if (score[board] == IN_GAME.ordinal()) {
+				score[board] = (byte) insertToken(board, columns[board]).ordinal();
+			}
+			results[board] = scores[score[board]];
+		}
+		return results;
+	}
+
+	private Score insertToken(int board, int x) {
+		if (x < 0 || x >= columns || heights[board * columns + x] == rows) {
+			return LOSE;
+		}
+		long bit = 1L << (x * columnHeight + heights[board * columns + x]++);
+		long tokenCells = moves[board]++ % 2 == 0 ? (cells0[board] |= bit) : (cells1[board] |= bit);
+		for (int shift : shifts) {
+			if (BitBoard.lineStarts(tokenCells, shift, toConnect) != 0) {
+				return WIN;
+			}
+		}
+		return moves[board] == columns * rows || boardCells != 0 && !anyLineOpen(board) ? DRAW : IN_GAME;
+	}
+
+	/**
+	 * Returns <code>true</code> if there is a line one of the players could still
+	 * connect, i.e. one without tokens of the other player.
+	 */
+	private boolean anyLineOpen(int board) {
+		long open0 = boardCells & ~cells1[board];
+		long open1 = boardCells & ~cells0[board];
+		for (int shift : shifts) {
+			if (BitBoard.lineStarts(open0, shift, toConnect) != 0
+					|| BitBoard.lineStarts(open1, shift, toConnect) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long boardCells(int columns, int rows) {
+		long column = (1L << rows) - 1;
+		long cells = 0;
+		for (int x = 0; x < columns; x++) {
+			cells |= column << x * (rows + 1);
+		}
+		return cells;
+	}
+
+	public Score score(int board) {
+		return scores[score[board]];
+	}
+
+	/**
+	 * Returns the slot of the player who made the last move on the board, this is
+	 * the winner (or loser) if the board has ended.
+	 */
+	public int lastSlot(int board) {
+		return score[board] == LOSE.ordinal() ? moves[board] % 2 : (moves[board] + 1) % 2;
+	}
+
+	public int slotToMove(int board) {
+		return moves[board] % 2;
+	}
+
+	public int height(int board, int column) {
+		return heights[board * columns + column];
+	}
+
+	public int moves(int board) {
+		return moves[board];
+	}
+
+	public void reset(int board) {
+		cells0[board] = 0;
+		cells1[board] = 0;
+		Arrays.fill(heights, board * columns, (board + 1) * columns, (byte) 0);
+		moves[board] = 0;
+		score[board] = (byte) IN_GAME.ordinal();
+	}
+
+	public void reset() {
+		for (int board = 0; board < size; board++) {
+			reset(board);
+		}
+	}
+
+}
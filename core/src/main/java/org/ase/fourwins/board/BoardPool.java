@@ -0,0 +1,72 @@
+package org.ase.fourwins.board;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.ase.fourwins.board.Board.DelegateBoard;
+
+/**
+ * Reuses boards (and their storage) once their game has ended: Boards are
+ * {@link #acquire(BoardInfo) acquired} instead of created via
+ * {@link Board#newBoard(BoardInfo)} and {@link #release(Board) released} when
+ * nobody refers to them any longer. Released boards are emptied and handed out
+ * again for the same {@link BoardInfo}.
+ * <p>
+ * This class is thread-safe, the boards themselves are not.
+ */
+public final class BoardPool {
+
+	private static final class PooledBoard extends DelegateBoard {
+
+		private final SlotBoard slotBoard;
+		private boolean released;
+
+		private PooledBoard(SlotBoard slotBoard) {
+			super(slotBoard);
+			this.slotBoard = slotBoard;
+		}
+
+		private void reset() {
+			slotBoard.reset();
+			delegate = slotBoard;
+		}
+
+	}
+
+	private final Map<BoardInfo, Queue<PooledBoard>> boards = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns an empty board, either a released one or a new one if there is none.
+	 */
+	public Board acquire(BoardInfo boardInfo) {
+		PooledBoard board = boardsOf(boardInfo).poll();
+		if (board == null) {
+			return new PooledBoard(Board.newSlotBoard(boardInfo));
+		}
+		board.released = false;
+		return board;
+	}
+
+	/**
+	 * Hands the board back to the pool, it must not be used any longer (neither
+	 * its {@link Board#gameState()}). Boards not acquired from a pool as well as
+	 * boards already released are ignored.
+	 */
+	public void release(Board board) {
+		if (board instanceof PooledBoard) {
+			PooledBoard pooledBoard = (PooledBoard) board;
+			if (!pooledBoard.released) {
+				pooledBoard.released = true;
+				pooledBoard.reset();
+				boardsOf(pooledBoard.boardInfo()).offer(pooledBoard);
+			}
+		}
+	}
+
+	private Queue<PooledBoard> boardsOf(BoardInfo boardInfo) {
+		return boards.computeIfAbsent(boardInfo, i -> new ConcurrentLinkedQueue<>());
+	}
+
+}
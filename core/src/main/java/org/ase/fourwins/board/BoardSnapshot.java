@@ -0,0 +1,74 @@
+package org.ase.fourwins.board;
+
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+import org.ase.fourwins.board.Board.GameState;
+
+/**
+ * Immutable copy of a {@link Board}'s position, e.g. for listeners inspecting
+ * the board after the game has gone on (or the board has been reused). Only
+ * the tokens inserted are copied (column by column, bottom first), so the
+ * snapshot of a huge board with few tokens is small as well.
+ */
+public final class BoardSnapshot {
+
+	private final BoardInfo boardInfo;
+	private final GameState gameState;
+	/** index of each column's bottom token in <code>tokens</code> */
+	private final int[] columnStarts;
+	private final Object[] tokens;
+
+	BoardSnapshot(BoardInfo boardInfo, GameState gameState, int[] columnStarts, Object[] tokens) {
+		this.boardInfo = boardInfo;
+		this.gameState = gameState;
+		this.columnStarts = columnStarts;
+		this.tokens = tokens;
+	}
+
+	public BoardInfo boardInfo() {
+		return boardInfo;
+	}
+
+	public GameState gameState() {
+		return gameState;
+	}
+
+	/**
+	 * Returns the count of tokens in <code>column</code>.
+	 */
+	public int height(int column) {
+		return columnStarts[column + 1] - columnStarts[column];
+	}
+
+	/**
+	 * Returns the columns a token could be inserted into, none if the game had
+	 * ended.
+	 */
+	public BitSet legalColumns() {
+		BitSet legalColumns = new BitSet(boardInfo.getColumns());
+		if (gameState.getScore() == IN_GAME) {
+			for (int column = 0; column < boardInfo.getColumns(); column++) {
+				legalColumns.set(column, height(column) < boardInfo.getRows());
+			}
+		}
+		return legalColumns;
+	}
+
+	/**
+	 * Returns the token at the passed {@link Coordinate} (<code>y</code> counted
+	 * from the top row), empty if there is none or the coordinate is not within
+	 * the board.
+	 */
+	public Optional<Object> tokenAt(Coordinate coordinate) {
+		int x = coordinate.getX();
+		if (x < 0 || x >= boardInfo.getColumns()) {
+			return Optional.empty();
+		}
+		int h = boardInfo.getRows() - 1 - coordinate.getY();
+		return h < 0 || h >= height(x) ? Optional.empty() : Optional.of(tokens[columnStarts[x] + h]);
+	}
+
+}
@@ -7,7 +7,7 @@ import lombok.Value;
 
 @Value
 @RequiredArgsConstructor(access = PRIVATE)
-class Coordinate {
+public class Coordinate {
 
 	int x, y;
 
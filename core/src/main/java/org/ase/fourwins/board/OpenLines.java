@@ -0,0 +1,108 @@
+package org.ase.fourwins.board;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.fill;
+
+/**
+ * Tracks the lines of <code>toConnect</code> cells that can still be connected,
+ * i.e. the ones not containing tokens of two different slots. Per line only
+ * its owner is stored (the slot + 1 of its tokens, <code>0</code> while empty,
+ * <code>-1</code> once blocked), so inserting a token touches at most
+ * <code>4 * toConnect</code> lines and the game is a draw as soon as no line
+ * is left.
+ * <p>
+ * Lines are stored by direction and the cell they start at (column by column,
+ * <code>y</code> counted from the top row), so this needs four bytes per cell
+ * and is not used for sparse boards. Boards without any line are played until
+ * they are full as ever, see {@link #isTracked(BoardInfo)}. Lines touched by
+ * slots that do not fit into a byte are no longer tracked for the rest of the
+ * game.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+final class OpenLines {
+
+	private static final byte BLOCKED = -1;
+
+	/** the direction of each line (dx, dy), starting at its first cell */
+	private static final int[][] directions = { { 0, 1 }, { 1, 0 }, { 1, -1 }, { 1, 1 } };
+
+	private final int columns, rows, toConnect;
+	private final int lines;
+	private final byte[] owners;
+	private int open;
+	private boolean tracking;
+
+	static boolean isTracked(BoardInfo boardInfo) {
+		return !SparseBoard.isSparse(boardInfo)
+				&& boardInfo.getToConnect() <= max(boardInfo.getColumns(), boardInfo.getRows());
+	}
+
+	OpenLines(BoardInfo boardInfo) {
+		this.columns = boardInfo.getColumns();
+		this.rows = boardInfo.getRows();
+		this.toConnect = boardInfo.getToConnect();
+		this.lines = countLines();
+		this.owners = new byte[directions.length * columns * rows];
+		reset();
+	}
+
+	private int countLines() {
+		int horizontal = max(0, columns - toConnect + 1);
+		int vertical = max(0, rows - toConnect + 1);
+		return horizontal * rows + columns * vertical + 2 * horizontal * vertical;
+	}
+
+	void reset() {
+		fill(owners, (byte) 0);
+		open = lines;
+		tracking = true;
+	}
+
+	/**
+	 * Blocks the lines through the passed cell for all slots but
+	 * <code>slot</code>.
+	 *
+	 * @return <code>true</code> if no line can be connected anymore
+	 */
+	boolean tokenInserted(int x, int y, int slot) {
+		if (!tracking) {
+			return false;
+		}
+		if (slot >= Byte.MAX_VALUE) {
+			tracking = false;
+			return false;
+		}
+		byte owner = (byte) (slot + 1);
+		for (int d = 0; d < directions.length; d++) {
+			int dx = directions[d][0];
+			int dy = directions[d][1];
+			for (int i = 0; i < toConnect; i++) {
+				int startX = x - i * dx;
+				int startY = y - i * dy;
+				if (isLine(startX, startY, dx, dy)) {
+					int index = (d * columns + startX) * rows + startY;
+					byte current = owners[index];
+					if (current == 0) {
+						owners[index] = owner;
+					} else if (current != owner && current != BLOCKED) {
+						owners[index] = BLOCKED;
+						open--;
+					}
+				}
+			}
+		}
+		return open == 0;
+	}
+
+	private boolean isLine(int startX, int startY, int dx, int dy) {
+		int endX = startX + (toConnect - 1) * dx;
+		int endY = startY + (toConnect - 1) * dy;
+		return isCell(startX, startY) && isCell(endX, endY);
+	}
+
+	private boolean isCell(int x, int y) {
+		return x >= 0 && x < columns && y >= 0 && y < rows;
+	}
+
+}
@@ -0,0 +1,278 @@
+package org.ase.fourwins.board;
+
+import static org.ase.fourwins.board.Board.Direction.EAST;
+import static org.ase.fourwins.board.Board.Direction.NORTH;
+import static org.ase.fourwins.board.Board.Direction.NORTHEAST;
+import static org.ase.fourwins.board.Board.Direction.NORTHWEST;
+import static org.ase.fourwins.board.Board.Direction.SOUTH;
+import static org.ase.fourwins.board.Board.Direction.SOUTHEAST;
+import static org.ase.fourwins.board.Board.Direction.SOUTHWEST;
+import static org.ase.fourwins.board.Board.Direction.WEST;
+import static org.ase.fourwins.board.Board.Line.fromTo;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Coordinate.xy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Base of the playable boards. The tokens are translated to their slot (see
+ * {@link Tokens}) before inserting, subclasses only have to deal with the
+ * slots. The token itself is only needed again when the game has ended.
+ * <p>
+ * Lines are checked by walking from the inserted token to both sides of each
+ * {@link Line}, cells are read via {@link #cellAt(int, int)}. The columns not
+ * filled yet are tracked here as well, subclasses report each column filled
+ * via {@link #columnFilled(int)}. The lines that can still be connected are
+ * tracked as well (see {@link OpenLines}), the game is a draw as soon as there
+ * is none left, even if there are empty cells.
+ */
+abstract class SlotBoard extends Board {
+
+	private static final Line[] lines = { //
+			fromTo(NORTH, SOUTH), //
+			fromTo(WEST, EAST), //
+			fromTo(SOUTHWEST, NORTHEAST), //
+			fromTo(NORTHWEST, SOUTHEAST) //
+	};
+
+	private static final GameState IN_GAME_STATE = GameState.builder().score(IN_GAME).build();
+
+	protected final BoardInfo boardInfo;
+	/** <code>null</code> until the first token was inserted */
+	private Tokens tokens;
+	private final BitSet legalColumns;
+	private int filledColumns;
+	/** <code>null</code> if not tracked, see {@link OpenLines#isTracked(BoardInfo)} */
+	private final OpenLines openLines;
+
+	SlotBoard(BoardInfo boardInfo) {
+		this.boardInfo = boardInfo;
+		this.legalColumns = new BitSet(boardInfo.getColumns());
+		this.legalColumns.set(0, boardInfo.getColumns());
+		this.openLines = OpenLines.isTracked(boardInfo) ? new OpenLines(boardInfo) : null;
+	}
+
+	@Override
+	public GameState gameState() {
+		return IN_GAME_STATE;
+	}
+
+	@Override
+	public BoardInfo boardInfo() {
+		return boardInfo;
+	}
+
+	/**
+	 * Not thread-safe, has to be synchronized by caller.
+	 */
+	@Override
+	public Board insertToken(Move move, Object token) {
+		if (tokens == null) {
+			tokens = new Tokens();
+		}
+		return insertToken(move.getColumnIdx(), tokens.intern(token));
+	}
+
+	/**
+	 * The first {@link Tokens} passed are adopted by this board, so as long as the
+	 * same {@link Tokens} are used no token has to be looked up.
+	 */
+	@Override
+	public Board insertToken(Move move, Tokens tokens, int slot) {
+		if (tokens != this.tokens) {
+			if (this.tokens != null && this.tokens.size() > 0) {
+				return insertToken(move, tokens.tokenOf(slot));
+			}
+			this.tokens = tokens;
+		}
+		return insertToken(move.getColumnIdx(), slot);
+	}
+
+	private Board insertToken(int x, int slot) {
+		if (x < 0 || x >= boardInfo.getColumns()) {
+			return new LoserBoard(tokenOf(slot), "ILLEGAL_COLUMN_ANNOUNCED", this);
+		}
+		if (isColumnFull(x)) {
+			return new LoserBoard(tokenOf(slot), "COLUMN_IS_FULL", this);
+		}
+		Board board = insertTokenAt(x, slot);
+		if (board == this && openLines != null
+				&& openLines.tokenInserted(x, boardInfo.getRows() - height(x), slot)) {
+			return new NoLinePossibleBoard(this);
+		}
+		return board;
+	}
+
+	/**
+	 * Removes all tokens so this board can be used for the next game.
+	 */
+	void reset() {
+		tokens = null;
+		legalColumns.set(0, boardInfo.getColumns());
+		filledColumns = 0;
+		if (openLines != null) {
+			openLines.reset();
+		}
+		clear();
+	}
+
+	protected Object tokenOf(int slot) {
+		return tokens.tokenOf(slot);
+	}
+
+	protected abstract boolean isColumnFull(int x);
+
+	/**
+	 * Has to be called by subclasses when column <code>x</code> got filled.
+	 */
+	protected void columnFilled(int x) {
+		legalColumns.clear(x);
+		filledColumns++;
+	}
+
+	protected boolean isFull() {
+		return filledColumns == boardInfo.getColumns();
+	}
+
+	@Override
+	public abstract int height(int column);
+
+	@Override
+	public BitSet legalColumns() {
+		return (BitSet) legalColumns.clone();
+	}
+
+	@Override
+	public boolean isLegalColumn(int column) {
+		return column >= 0 && legalColumns.get(column);
+	}
+
+	@Override
+	public int nextLegalColumn(int fromColumn) {
+		return legalColumns.nextSetBit(fromColumn);
+	}
+
+	@Override
+	public Optional<Object> tokenAt(Coordinate coordinate) {
+		int x = coordinate.getX();
+		int y = coordinate.getY();
+		if (x < 0 || x >= boardInfo.getColumns() || y < 0 || y >= boardInfo.getRows()) {
+			return Optional.empty();
+		}
+		int cell = cellAt(x, y);
+		return cell == 0 ? Optional.empty() : Optional.of(tokenOf(cell - 1));
+	}
+
+	@Override
+	public BoardSnapshot snapshot() {
+		return snapshot(gameState());
+	}
+
+	BoardSnapshot snapshot(GameState gameState) {
+		int columns = boardInfo.getColumns();
+		int rows = boardInfo.getRows();
+		int[] columnStarts = new int[columns + 1];
+		for (int x = 0; x < columns; x++) {
+			columnStarts[x + 1] = columnStarts[x] + height(x);
+		}
+		Object[] tokens = new Object[columnStarts[columns]];
+		for (int x = 0; x < columns; x++) {
+			for (int h = 0; h < height(x); h++) {
+				tokens[columnStarts[x] + h] = tokenOf(cellAt(x, rows - 1 - h) - 1);
+			}
+		}
+		return new BoardSnapshot(boardInfo, gameState, columnStarts, tokens);
+	}
+
+	/**
+	 * Empties all cells, the storage should be kept for the next game.
+	 */
+	protected abstract void clear();
+
+	/**
+	 * Inserts the token of <code>slot</code> into the (valid and not full) column
+	 * <code>x</code>.
+	 *
+	 * @return the board after the token was inserted
+	 */
+	protected abstract Board insertTokenAt(int x, int slot);
+
+	/**
+	 * Returns the slot + 1 of the token at the passed cell (<code>y</code> counted
+	 * from the top row) or <code>0</code> if the cell is empty. The cell is always
+	 * within the board.
+	 */
+	protected abstract int cellAt(int x, int y);
+
+	/**
+	 * Returns <code>true</code> if the token of <code>slot</code> at the passed
+	 * cell is part of a line of at least {@link BoardInfo#getToConnect()} tokens.
+	 * At most <code>toConnect - 1</code> cells are checked per direction.
+	 */
+	protected boolean connectsLine(int x, int y, int slot) {
+		for (Line line : lines) {
+			if (lineToWin(x, y, slot + 1, line)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean lineToWin(int x, int y, int cell, Line line) {
+		int toConnect = boardInfo.getToConnect();
+		int connected = 1 + neighboursOfSameToken(x, y, cell, line.getFrom(), toConnect - 1);
+		return connected + neighboursOfSameToken(x, y, cell, line.getTo(), toConnect - connected) >= toConnect;
+	}
+
+	private int neighboursOfSameToken(int x, int y, int cell, Direction direction, int max) {
+		int neighbours = 0;
+		int nx = x + direction.mutateX;
+		int ny = y + direction.mutateY;
+		while (neighbours < max && isSameToken(nx, ny, cell)) {
+			neighbours++;
+			nx += direction.mutateX;
+			ny += direction.mutateY;
+		}
+		return neighbours;
+	}
+
+	private boolean isSameToken(int x, int y, int cell) {
+		return x >= 0 && x < boardInfo.getColumns() && y >= 0 && y < boardInfo.getRows() && cellAt(x, y) == cell;
+	}
+
+	/**
+	 * Creates the board of the winner, the token of <code>slot</code> at the
+	 * passed cell has connected at least one line.
+	 */
+	protected Board winnerBoard(int x, int y, int slot) {
+		Object token = tokenOf(slot);
+		List<WinningCombination> combinations = new ArrayList<>(lines.length);
+		for (Line line : lines) {
+			if (lineToWin(x, y, slot + 1, line)) {
+				combinations.add(new WinningCombination(token, xy(x, y), connectedTokens(xy(x, y), slot + 1, line)));
+			}
+		}
+		return new WinnerBoard(token, combinations, this);
+	}
+
+	private Set<Coordinate> connectedTokens(Coordinate center, int cell, Line line) {
+		Set<Coordinate> connected = new HashSet<>();
+		connected.add(center);
+		addNeighboursOfSameToken(connected, center, cell, line.getFrom());
+		addNeighboursOfSameToken(connected, center, cell, line.getTo());
+		return connected;
+	}
+
+	private void addNeighboursOfSameToken(Set<Coordinate> connected, Coordinate center, int cell,
+			Direction direction) {
+		for (Coordinate c = direction.mutate(center); isSameToken(c.getX(), c.getY(), cell); c = direction.mutate(c)) {
+			connected.add(c);
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package org.ase.fourwins.board;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+/**
+ * {@link Board} for huge boards (e.g. 1000x1000) where most of the cells stay
+ * empty. Each column is a stack of the tokens inserted (bottom first) growing
+ * in chunks, so the memory needed depends on the count of tokens inserted and
+ * not on the area of the board. Columns that never got a token do not
+ * allocate anything at all.
+ * <p>
+ * Like on each {@link SlotBoard} at most <code>toConnect - 1</code> cells per
+ * direction are checked for lines and the filled columns are counted, so the
+ * cost of inserting a token does not depend on the board's size either.
+ */
+final class SparseBoard extends SlotBoard {
+
+	/** boards with more cells than this are sparse ones */
+	static final int MAX_DENSE_CELLS = 1 << 16;
+
+	private static final int CHUNK = 16;
+
+	private final int rows;
+	/** slot of the token + 1 per column, bottom first */
+	private final byte[][] stacks;
+	private final int[] heights;
+
+	static boolean isSparse(BoardInfo boardInfo) {
+		return (long) boardInfo.getColumns() * boardInfo.getRows() > MAX_DENSE_CELLS;
+	}
+
+	SparseBoard(BoardInfo boardInfo) {
+		super(boardInfo);
+		this.rows = boardInfo.getRows();
+		this.stacks = new byte[boardInfo.getColumns()][];
+		this.heights = new int[boardInfo.getColumns()];
+	}
+
+	@Override
+	protected boolean isColumnFull(int x) {
+		return heights[x] == rows;
+	}
+
+	@Override
+	protected Board insertTokenAt(int x, int slot) {
+		if (slot >= Byte.MAX_VALUE) {
+			throw new IllegalStateException("Sparse boards support up to " + (Byte.MAX_VALUE - 1) + " tokens");
+		}
+		int h = heights[x]++;
+		stackWithRoomFor(x, h)[h] = (byte) (slot + 1);
+		if (isColumnFull(x)) {
+			columnFilled(x);
+		}
+		int y = rows - 1 - h;
+		if (connectsLine(x, y, slot)) {
+			return winnerBoard(x, y, slot);
+		}
+		return isFull() ? new DrawBoard(this) : this;
+	}
+
+	private byte[] stackWithRoomFor(int x, int h) {
+		byte[] stack = stacks[x];
+		if (stack == null) {
+			return stacks[x] = new byte[min(rows, CHUNK)];
+		}
+		if (h == stack.length) {
+			return stacks[x] = copyOf(stack, min(rows, max(stack.length + CHUNK, stack.length * 2)));
+		}
+		return stack;
+	}
+
+	/**
+	 * Keeps the stacks, cells above the height of a column are never read.
+	 */
+	@Override
+	protected void clear() {
+		fill(heights, 0);
+	}
+
+	@Override
+	public int height(int column) {
+		return heights[column];
+	}
+
+	@Override
+	protected int cellAt(int x, int y) {
+		int h = rows - 1 - y;
+		return h < heights[x] ? stacks[x][h] : 0;
+	}
+
+}
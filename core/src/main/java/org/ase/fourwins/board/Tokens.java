@@ -0,0 +1,66 @@
+package org.ase.fourwins.board;
+
+import static java.util.Arrays.copyOf;
+
+/**
+ * Maps the tokens of a game to small <code>int</code> slots (<code>0</code>,
+ * <code>1</code>, ...) in the order the tokens got known. Boards work on these
+ * slots and only translate them back to the token when reporting a
+ * {@link Board.GameState}.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+public final class Tokens {
+
+	private Object[] tokens = new Object[2];
+	private int size;
+
+	public static Tokens of(Object... tokens) {
+		Tokens result = new Tokens();
+		for (Object token : tokens) {
+			result.intern(token);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the slot of the passed token, the token is added if it is not
+	 * known yet.
+	 */
+	public int intern(Object token) {
+		int slot = slotOf(token);
+		if (slot >= 0) {
+			return slot;
+		}
+		if (size == tokens.length) {
+			tokens = copyOf(tokens, size * 2);
+		}
+		tokens[size] = token;
+		return size++;
+	}
+
+	/**
+	 * Returns the slot of the passed token or <code>-1</code> if the token is not
+	 * known.
+	 */
+	public int slotOf(Object token) {
+		for (int i = 0; i < size; i++) {
+			if (tokens[i].equals(token)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public Object tokenOf(int slot) {
+		if (slot < 0 || slot >= size) {
+			throw new IllegalArgumentException("No token at slot " + slot + " (" + size + " tokens known)");
+		}
+		return tokens[slot];
+	}
+
+	public int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,160 @@
+package org.ase.fourwins.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Mutable board for searching players, referees and the like: Tokens (given
+ * by their slot, see {@link Tokens}) can be inserted and removed again, so one
+ * instance can be used for a whole search tree instead of copying a board per
+ * node.
+ * <p>
+ * A 64-bit Zobrist hash of the position is maintained incrementally as well as
+ * the hash of the mirrored (left/right) position.
+ * {@link #canonicalHash()} is the same for a position and its mirror image so
+ * transposition tables can share their entries.
+ * <p>
+ * Cells are addressed like {@link Coordinate}s: <code>y</code> is counted from
+ * the top row.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+public final class UndoableBoard {
+
+	private static final long SEED = 0x4f757220_57696e73L;
+
+	private final BoardInfo boardInfo;
+	private final int columns, rows, slots;
+	/** slot of the token + 1 per cell (column by column, bottom first) */
+	private final int[] cells;
+	private final int[] heights;
+	/** Zobrist keys per cell and slot */
+	private final long[] keys;
+	private int tokens;
+	private long hash, mirroredHash;
+
+	public UndoableBoard(BoardInfo boardInfo) {
+		this(boardInfo, 2);
+	}
+
+	public UndoableBoard(BoardInfo boardInfo, int slots) {
+		this.boardInfo = boardInfo;
+		this.columns = boardInfo.getColumns();
+		this.rows = boardInfo.getRows();
+		this.slots = slots;
+		this.cells = new int[columns * rows];
+		this.heights = new int[columns];
+		this.keys = new SplittableRandom(SEED).longs(cells.length * slots).toArray();
+	}
+
+	public BoardInfo boardInfo() {
+		return boardInfo;
+	}
+
+	public boolean canInsert(int column) {
+		return column >= 0 && column < columns && heights[column] < rows;
+	}
+
+	/**
+	 * Inserts the token of <code>slot</code> into <code>column</code>.
+	 *
+	 * @return <code>true</code> if the inserted token connected a line of
+	 *         {@link BoardInfo#getToConnect()} tokens
+	 */
+	public boolean insertToken(int column, int slot) {
+		if (!canInsert(column)) {
+			throw new IllegalArgumentException("Cannot insert into column " + column);
+		}
+		if (slot < 0 || slot >= slots) {
+			throw new IllegalArgumentException("Slot " + slot + " not in range of " + slots + " slots");
+		}
+		int h = heights[column]++;
+		cells[index(column, h)] = slot + 1;
+		toggle(column, h, slot);
+		tokens++;
+		return connects(column, h, slot + 1);
+	}
+
+	/**
+	 * Removes the token inserted last into <code>column</code>.
+	 *
+	 * @return the slot of the removed token
+	 */
+	public int removeTopToken(int column) {
+		if (column < 0 || column >= columns || heights[column] == 0) {
+			throw new IllegalArgumentException("No token in column " + column);
+		}
+		int h = --heights[column];
+		int slot = cells[index(column, h)] - 1;
+		cells[index(column, h)] = 0;
+		toggle(column, h, slot);
+		tokens--;
+		return slot;
+	}
+
+	private void toggle(int column, int h, int slot) {
+		hash ^= keys[index(column, h) * slots + slot];
+		mirroredHash ^= keys[index(columns - 1 - column, h) * slots + slot];
+	}
+
+	private boolean connects(int column, int h, int cell) {
+		int toConnect = boardInfo.getToConnect();
+		return connected(column, h, cell, 0, 1, toConnect) >= toConnect //
+				|| connected(column, h, cell, 1, 0, toConnect) >= toConnect //
+				|| connected(column, h, cell, 1, 1, toConnect) >= toConnect //
+				|| connected(column, h, cell, 1, -1, toConnect) >= toConnect;
+	}
+
+	private int connected(int column, int h, int cell, int dx, int dh, int max) {
+		int connected = 1;
+		for (int x = column + dx, y = h + dh; connected < max && isCell(x, y, cell); x += dx, y += dh) {
+			connected++;
+		}
+		for (int x = column - dx, y = h - dh; connected < max && isCell(x, y, cell); x -= dx, y -= dh) {
+			connected++;
+		}
+		return connected;
+	}
+
+	private boolean isCell(int x, int h, int cell) {
+		return x >= 0 && x < columns && h >= 0 && h < rows && cells[index(x, h)] == cell;
+	}
+
+	private int index(int x, int h) {
+		return x * rows + h;
+	}
+
+	public int height(int column) {
+		return heights[column];
+	}
+
+	/**
+	 * Returns the slot of the token at the passed cell or <code>-1</code> if the
+	 * cell is empty.
+	 */
+	public int slotAt(int x, int y) {
+		return cells[index(x, rows - 1 - y)] - 1;
+	}
+
+	/**
+	 * Returns the count of tokens on the board.
+	 */
+	public int tokens() {
+		return tokens;
+	}
+
+	public boolean isFull() {
+		return tokens == cells.length;
+	}
+
+	public long hash() {
+		return hash;
+	}
+
+	/**
+	 * Returns the same hash for this position and its mirror image.
+	 */
+	public long canonicalHash() {
+		return Math.min(hash, mirroredHash);
+	}
+
+}
@@ -0,0 +1,180 @@
+package org.ase.fourwins.board;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Long.numberOfTrailingZeros;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+/**
+ * {@link Board} for wide boards checking lines 64 cells at a time. Each token
+ * has one bit set per direction (vertical, horizontal, diagonal,
+ * antidiagonal), the bits of each direction are laid out so that every line of
+ * that direction is a contiguous run of bits, followed by one bit that is never
+ * set. So the tokens connected in a direction are the set bits around the
+ * inserted token and can be counted a whole <code>long</code> at a time using
+ * {@link Long#numberOfTrailingZeros(long)} and
+ * {@link Long#numberOfLeadingZeros(long)}.
+ * <p>
+ * Layout per direction (<code>y</code> counted from the top):
+ * <ul>
+ * <li>vertical: column <code>x</code>, position <code>y</code></li>
+ * <li>horizontal: row <code>y</code>, position <code>x</code></li>
+ * <li>diagonal (top left to bottom right): line <code>x - y</code>, position
+ * <code>y</code></li>
+ * <li>antidiagonal (bottom left to top right): line <code>x + y</code>,
+ * position <code>y</code></li>
+ * </ul>
+ */
+final class WideBoard extends SlotBoard {
+
+	/** boards with at least this count of columns are wide ones */
+	static final int MIN_COLUMNS = Long.SIZE;
+
+	private static final int VERTICAL = 0, HORIZONTAL = 1, DIAGONAL = 2, ANTIDIAGONAL = 3;
+
+	private final int columns, rows;
+	private final int[] bitsPerDirection;
+	private final int[] fillY;
+	/** bits per slot and direction */
+	private long[][][] bits = new long[2][][];
+
+	static boolean isWide(BoardInfo boardInfo) {
+		return boardInfo.getColumns() >= MIN_COLUMNS;
+	}
+
+	WideBoard(BoardInfo boardInfo) {
+		super(boardInfo);
+		this.columns = boardInfo.getColumns();
+		this.rows = boardInfo.getRows();
+		int diagonals = columns + rows - 1;
+		this.bitsPerDirection = new int[] { columns * (rows + 1), rows * (columns + 1), diagonals * (rows + 1),
+				diagonals * (rows + 1) };
+		this.fillY = new int[columns];
+		fill(fillY, rows - 1);
+	}
+
+	@Override
+	protected boolean isColumnFull(int x) {
+		return fillY[x] < 0;
+	}
+
+	@Override
+	protected Board insertTokenAt(int x, int slot) {
+		int y = fillY[x]--;
+		long[][] tokenBits = bitsOf(slot);
+		for (int direction = VERTICAL; direction <= ANTIDIAGONAL; direction++) {
+			int index = index(direction, x, y);
+			tokenBits[direction][index >>> 6] |= 1L << index;
+		}
+		if (fillY[x] < 0) {
+			columnFilled(x);
+		}
+		if (connectsLine(x, y, slot)) {
+			return winnerBoard(x, y, slot);
+		}
+		return isFull() ? new DrawBoard(this) : this;
+	}
+
+	private long[][] bitsOf(int slot) {
+		if (slot >= bits.length) {
+			bits = copyOf(bits, slot + 1);
+		}
+		if (bits[slot] == null) {
+			bits[slot] = new long[bitsPerDirection.length][];
+			for (int direction = VERTICAL; direction <= ANTIDIAGONAL; direction++) {
+				bits[slot][direction] = new long[(bitsPerDirection[direction] + Long.SIZE - 1) / Long.SIZE];
+			}
+		}
+		return bits[slot];
+	}
+
+	@Override
+	protected boolean connectsLine(int x, int y, int slot) {
+		int toConnect = boardInfo.getToConnect();
+		long[][] tokenBits = bits[slot];
+		for (int direction = VERTICAL; direction <= ANTIDIAGONAL; direction++) {
+			long[] words = tokenBits[direction];
+			int index = index(direction, x, y);
+			if (1 + onesAbove(words, index) + onesBelow(words, index) >= toConnect) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int index(int direction, int x, int y) {
+		switch (direction) {
+		case VERTICAL:
+			return x * (rows + 1) + y;
+		case HORIZONTAL:
+			return y * (columns + 1) + x;
+		case DIAGONAL:
+			return (x - y + rows - 1) * (rows + 1) + y;
+		default:
+			return (x + y) * (rows + 1) + y;
+		}
+	}
+
+	/**
+	 * Counts the set bits directly above <code>index</code>.
+	 */
+	private static int onesAbove(long[] words, int index) {
+		int ones = 0;
+		for (int i = index + 1; i >>> 6 < words.length;) {
+			int bit = i & 63;
+			int run = numberOfTrailingZeros(~(words[i >>> 6] >>> bit));
+			ones += run;
+			if (run < Long.SIZE - bit) {
+				break;
+			}
+			i += run;
+		}
+		return ones;
+	}
+
+	/**
+	 * Counts the set bits directly below <code>index</code>.
+	 */
+	private static int onesBelow(long[] words, int index) {
+		int ones = 0;
+		for (int i = index - 1; i >= 0;) {
+			int bit = i & 63;
+			int run = numberOfLeadingZeros(~(words[i >>> 6] << (63 - bit)));
+			ones += run;
+			if (run < bit + 1) {
+				break;
+			}
+			i -= run;
+		}
+		return ones;
+	}
+
+	@Override
+	protected void clear() {
+		for (long[][] tokenBits : bits) {
+			if (tokenBits != null) {
+				for (long[] words : tokenBits) {
+					fill(words, 0);
+				}
+			}
+		}
+		fill(fillY, rows - 1);
+	}
+
+	@Override
+	public int height(int column) {
+		return rows - 1 - fillY[column];
+	}
+
+	@Override
+	protected int cellAt(int x, int y) {
+		int index = index(VERTICAL, x, y);
+		for (int slot = 0; slot < bits.length; slot++) {
+			if (bits[slot] != null && (bits[slot][VERTICAL][index >>> 6] & 1L << index) != 0) {
+				return slot + 1;
+			}
+		}
+		return 0;
+	}
+
+}
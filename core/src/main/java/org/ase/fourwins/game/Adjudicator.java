@@ -0,0 +1,37 @@
+package org.ase.fourwins.game;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+
+/**
+ * Ends games whose outcome is already decided before a line has been connected
+ * or the board is full, see {@link DefaultGame#adjudicateWith(Adjudicator)}.
+ * The games are ended with the reason {@link #ADJUDICATED}.
+ */
+public interface Adjudicator {
+
+	String ADJUDICATED = "ADJUDICATED";
+
+	/**
+	 * The adjudication of one game, it is informed about each move. Not
+	 * thread-safe, the moves are passed one after the other.
+	 */
+	interface Adjudication {
+
+		/**
+		 * Called after each move that didn't end the game.
+		 *
+		 * @param slot   index of the token of the player that made the move
+		 * @param column the column the token has been inserted
+		 * @return the state to end the game with, empty if the game goes on
+		 */
+		Optional<GameState> moveMade(int slot, int column);
+
+	}
+
+	Adjudication newGame(BoardInfo boardInfo, List<String> tokens);
+
+}
@@ -1,25 +1,41 @@
 package org.ase.fourwins.game;
 
+import static java.lang.System.Logger.Level.WARNING;
+import static java.util.Collections.nCopies;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.ase.fourwins.board.Board.Score.IN_GAME;
 import static org.ase.fourwins.board.Board.Score.LOSE;
 import static org.ase.fourwins.board.Move.moveToColumn;
 
+import java.lang.System.Logger;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.ase.fourwins.board.Board;
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.Tokens;
+import org.ase.fourwins.game.Adjudicator.Adjudication;
 
 import lombok.Getter;
 
 public class DefaultGame implements Game {
 
+	private static final Logger log = System.getLogger(DefaultGame.class.getName());
+
 	public interface MoveListener {
 		MoveListener NULL = (game, token, column) -> {
 		};
@@ -69,32 +85,29 @@ public class DefaultGame implements Game {
 
 	}
 
-	private final static class InfiniteIterator<T> implements Iterator<T> {
-
-		private final Iterable<T> elements;
-		private Iterator<T> iterator;
-
-		private InfiniteIterator(Iterable<T> elements) {
-			this.iterator = (this.elements = elements).iterator();
-		}
-
-		@Override
-		public T next() {
-			return (iterator = iterator.hasNext() ? iterator : elements.iterator()).next();
-		}
-
-		@Override
-		public boolean hasNext() {
-			return true;
-		}
-	}
-
 	private final MoveListener moveListener;
 	private Board board;
+	/**
+	 * the state once the game has ended, the board might be reused for another
+	 * game afterwards
+	 */
+	private GameState endState;
 	@Getter
 	private final List<Player> players;
-	private final Iterator<Player> nextPlayer;
+	private final Tokens tokens;
+	private int nextSlot;
 	private final GameId gameId;
+	private MoveLatencies moveLatencies;
+	private Executor notificationExecutor = Runnable::run;
+	/**
+	 * per player (by slot) the last notification about an inserted token, each
+	 * one is sent after the previous one
+	 */
+	private final List<CompletableFuture<Void>> playerNotified;
+	private CompletableFuture<Void> moveListenerNotified = completedFuture(null);
+	private Adjudication adjudication;
+	/** the state decided by the adjudication, the board still is in game */
+	private GameState adjudicated;
 
 	public DefaultGame(Board board, GameId gameId, Player... players) {
 		this(MoveListener.NULL, board, gameId, players);
@@ -104,10 +117,43 @@ public class DefaultGame implements Game {
 		validateTokens(players);
 		this.gameId = gameId;
 		this.players = List.of(players);
+		this.tokens = Tokens.of(this.players.stream().map(Player::getToken).toArray());
+		this.playerNotified = new ArrayList<>(nCopies(players.length, completedFuture(null)));
 		this.players.forEach(p -> informPlayer(board.boardInfo(), p));
 		this.moveListener = moveListener;
 		this.board = board;
-		this.nextPlayer = new InfiniteIterator<Player>(List.of(players));
+	}
+
+	/**
+	 * Records the latencies of the players of this game to the passed
+	 * {@link MoveLatencies}.
+	 */
+	public DefaultGame recordLatenciesTo(MoveLatencies moveLatencies) {
+		this.moveLatencies = moveLatencies;
+		return this;
+	}
+
+	/**
+	 * Sends the notifications about inserted tokens (to the players and the
+	 * {@link MoveListener}) via the passed {@link Executor} so the next move is
+	 * not delayed by slow notifications. Each of them still gets the
+	 * notifications in order and a player is not asked for its next column before
+	 * it has been informed about all tokens inserted. Defaults to sending them on
+	 * the thread of the game.
+	 */
+	public DefaultGame notifyOn(Executor notificationExecutor) {
+		this.notificationExecutor = requireNonNull(notificationExecutor);
+		return this;
+	}
+
+	/**
+	 * Passes each move to the {@link Adjudicator}, the game ends as soon as it
+	 * has decided it.
+	 */
+	public DefaultGame adjudicateWith(Adjudicator adjudicator) {
+		this.adjudication = adjudicator.newGame(board.boardInfo(),
+				players.stream().map(Player::getToken).collect(toList()));
+		return this;
 	}
 
 	@Override
@@ -136,43 +182,169 @@ public class DefaultGame implements Game {
 
 	@Override
 	public Game runGame() {
-		Game game = executeGame();
+		return gameEnded(executeGame(null).join());
+	}
+
+	/**
+	 * Runs the game as a state machine: Each move is made when the
+	 * {@link Player#nextColumnAsync()} of the player to move has completed, so no
+	 * thread is blocked while waiting for the players. As long as the players
+	 * answer immediately the game is played on the calling thread.
+	 */
+	@Override
+	public CompletionStage<Game> runGameAsync(Executor executor) {
+		return executeGame(requireNonNull(executor)).thenApply(this::gameEnded);
+	}
+
+	private Game gameEnded(Game game) {
 		GameState gameState = game.gameState();
 		players.forEach(p -> p.gameEnded(gameState));
 		return game;
 	}
 
-	private Game executeGame() {
-		while (gameState().getScore() == IN_GAME) {
-			Player player = nextPlayer.next();
+	/**
+	 * Returns a future that only completes exceptionally on {@link Error}s,
+	 * exceptions lose the game.
+	 *
+	 * @param executor where to continue when a player has answered,
+	 *                 <code>null</code> to wait for the players on the calling
+	 *                 thread
+	 */
+	private CompletableFuture<Game> executeGame(Executor executor) {
+		CompletableFuture<Game> result = new CompletableFuture<>();
+		executeMoves(executor, result);
+		return result;
+	}
+
+	private void executeMoves(Executor executor, CompletableFuture<Game> result) {
+		while (adjudicated == null && board.gameState().getScore() == IN_GAME) {
+			int slot = nextSlot;
+			nextSlot = (slot + 1) % players.size();
+			Player player = players.get(slot);
+			CompletableFuture<Integer> column = playerNotified.get(slot).thenCompose(v -> askForColumn(player));
+			if (executor != null && !column.isDone()) {
+				column.whenCompleteAsync((c, e) -> continueGame(executor, result, player, slot, c, e), executor);
+				return;
+			}
 			try {
-				makeMove(player);
+				makeMove(player, slot, column.join());
 			} catch (Exception e) {
-				return new GameLostDueToException(board.boardInfo(), getId(), player, e.getMessage(), players);
+				gameOver(result, lostDueTo(player, e));
+				return;
 			}
 		}
-		return this;
+		endState = adjudicated == null ? board.gameState() : adjudicated;
+		gameOver(result, this);
+	}
+
+	private CompletableFuture<Integer> askForColumn(Player player) {
+		long askedAt = System.nanoTime();
+		try {
+			return timed(player, askedAt, player.nextColumnAsync().toCompletableFuture());
+		} catch (Exception e) {
+			moveAnswered(player, askedAt, e);
+			return failedFuture(e);
+		}
+	}
+
+	/**
+	 * Completes <code>result</code> once all notifications have been sent.
+	 */
+	private void gameOver(CompletableFuture<Game> result, Game game) {
+		List<CompletableFuture<Void>> notifications = new ArrayList<>(playerNotified);
+		notifications.add(moveListenerNotified);
+		allOf(notifications.toArray(new CompletableFuture<?>[0])).whenComplete((v, e) -> result.complete(game));
+	}
+
+	private CompletableFuture<Integer> timed(Player player, long askedAt, CompletableFuture<Integer> column) {
+		return moveLatencies == null ? column : column.whenComplete((c, e) -> moveAnswered(player, askedAt, e));
+	}
+
+	private void moveAnswered(Player player, long askedAt, Throwable exception) {
+		if (moveLatencies != null) {
+			moveLatencies.moveAnswered(player, System.nanoTime() - askedAt, exception);
+		}
+	}
+
+	private void continueGame(Executor executor, CompletableFuture<Game> result, Player player, int slot,
+			Integer column, Throwable exception) {
+		try {
+			if (exception != null) {
+				gameOver(result, lostDueTo(player, exception));
+				return;
+			}
+			try {
+				makeMove(player, slot, column);
+			} catch (Exception e) {
+				gameOver(result, lostDueTo(player, e));
+				return;
+			}
+			executeMoves(executor, result);
+		} catch (Throwable t) {
+			result.completeExceptionally(t);
+		}
+	}
+
+	private Game lostDueTo(Player player, Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return new GameLostDueToException(board.boardInfo(), getId(), player, cause.getMessage(), players);
 	}
 
-	private void makeMove(Player player) {
-		int column = player.nextColumn();
+	private void makeMove(Player player, int slot, int column) {
 		String token = player.getToken();
-		this.moveListener.newTokenAt(this, token, column);
-		this.board = this.board.insertToken(moveToColumn(column), token);
-		this.players.stream().forEach(p -> sendTokenWasInserted(p, token, column));
+		moveListenerNotified = moveListenerNotified.thenRunAsync(() -> sendNewTokenAt(token, column),
+				notificationExecutor);
+		this.board = this.board.insertToken(moveToColumn(column), tokens, slot);
+		if (adjudication != null && board.gameState().getScore() == IN_GAME) {
+			adjudicate(slot, column);
+		}
+		for (int i = 0; i < players.size(); i++) {
+			Player p = players.get(i);
+			Runnable notification = () -> sendTokenWasInserted(p, token, column);
+			CompletableFuture<Void> notified = playerNotified.get(i);
+			// the next player has to be informed before being asked anyway
+			playerNotified.set(i, i == nextSlot ? notified.thenRun(notification)
+					: notified.thenRunAsync(notification, notificationExecutor));
+		}
+	}
+
+	/**
+	 * A failing adjudication must not lose the game for the player, the game is
+	 * played to its end instead.
+	 */
+	private void adjudicate(int slot, int column) {
+		try {
+			adjudicated = adjudication.moveMade(slot, column).orElse(null);
+		} catch (RuntimeException e) {
+			log.log(WARNING, "Adjudication of game " + gameId + " failed, playing it to its end", e);
+			adjudication = null;
+		}
+	}
+
+	private void sendNewTokenAt(String token, int column) {
+		try {
+			moveListener.newTokenAt(this, token, column);
+		} catch (Exception e) {
+			log.log(WARNING, "Move listener failed on token " + token + " at column " + column, e);
+		}
 	}
 
 	private void sendTokenWasInserted(Player player, String token, int column) {
+		long notifiedAt = System.nanoTime();
 		try {
 			player.tokenWasInserted(token, column);
 		} catch (Exception e) {
-			e.printStackTrace();
+			log.log(WARNING, "Notifying " + player.getToken() + " of token " + token + " at column " + column
+					+ " failed", e);
+		}
+		if (moveLatencies != null) {
+			moveLatencies.playerNotified(player, System.nanoTime() - notifiedAt);
 		}
 	}
 
 	@Override
 	public GameState gameState() {
-		return board.gameState();
+		return endState == null ? board.gameState() : endState;
 	}
 
 }
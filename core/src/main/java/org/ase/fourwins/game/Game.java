@@ -2,6 +2,9 @@ package org.ase.fourwins.game;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.ase.fourwins.board.Board.GameState;
@@ -19,7 +22,37 @@ public interface Game {
 		public static GameId random() {
 			return new GameId(UUID.randomUUID().toString());
 		}
-		
+
+		/**
+		 * Returns the id <code>&lt;season&gt;/&lt;matchday&gt;/&lt;game&gt;</code>
+		 * of the passed binary form, see {@link GameIdGenerator}.
+		 */
+		public static GameId fromBinary(long binary) {
+			return new GameId(GameIdGenerator.season(binary) + "/" + GameIdGenerator.matchday(binary) + "/"
+					+ GameIdGenerator.game(binary));
+		}
+
+		/**
+		 * Returns the binary form of an id created by {@link GameIdGenerator}.
+		 * Binary forms sort by season, matchday and game.
+		 *
+		 * @throws IllegalStateException if this id has not been created by a
+		 *                               {@link GameIdGenerator}
+		 */
+		public long toBinary() {
+			String[] parts = gameId.split("/");
+			if (parts.length != 3) {
+				throw new IllegalStateException("Not a generated id: " + gameId);
+			}
+			try {
+				return GameIdGenerator.toBinary(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+						Integer.parseInt(parts[2]));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalStateException("Not a generated id: " + gameId, e);
+			}
+		}
+
+
 		@Override
 		public String toString() {
 			return gameId;
@@ -29,6 +62,17 @@ public interface Game {
 
 	Game runGame();
 
+	/**
+	 * Runs the game without blocking the calling thread while waiting for the
+	 * players, see {@link Player#nextColumnAsync()}.
+	 *
+	 * @param executor where to continue the game once a player has answered
+	 * @return the game as returned by {@link #runGame()}
+	 */
+	default CompletionStage<Game> runGameAsync(Executor executor) {
+		return CompletableFuture.supplyAsync(this::runGame, executor);
+	}
+
 	GameState gameState();
 
 	List<Player> getPlayers();
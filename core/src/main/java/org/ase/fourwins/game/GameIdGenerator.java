@@ -0,0 +1,102 @@
+package org.ase.fourwins.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ase.fourwins.game.Game.GameId;
+
+/**
+ * Generates the ids <code>&lt;season&gt;/&lt;matchday&gt;/&lt;game&gt;</code>
+ * (each counted from 1), e.g. <code>3/7/12</code>. They are usable as MQTT
+ * topics and have a binary form (see {@link GameId#toBinary()}):
+ *
+ * <pre>
+ * season(32 bits) matchday(16 bits) game(16 bits)
+ * </pre>
+ *
+ * The state is the binary form of the last id, so generating an id is a single
+ * atomic update.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class GameIdGenerator {
+
+	private static final int MAX = 0xFFFF;
+
+	private final AtomicLong last = new AtomicLong();
+
+	/**
+	 * Starts the next season, its first matchday has to be started using
+	 * {@link #nextMatchday()}.
+	 */
+	public void nextSeason() {
+		last.updateAndGet(b -> toBinary(season(b) + 1, 0, 0));
+	}
+
+	public void nextMatchday() {
+		last.updateAndGet(b -> toBinary(season(b), matchday(b) + 1, 0));
+	}
+
+	/**
+	 * Continues the seasons after the passed one (unless the current season is
+	 * later), e.g. after the last season of an earlier run so its ids are not
+	 * generated again.
+	 */
+	public void continueAfterSeason(int season) {
+		last.updateAndGet(b -> season(b) < season ? toBinary(season, 0, 0) : b);
+	}
+
+	/**
+	 * Returns the id of the next game of the current matchday.
+	 *
+	 * @throws IllegalStateException if the matchday has more than 65535 games,
+	 *                               no id is used up then
+	 */
+	public GameId next() {
+		return GameId.fromBinary(last.updateAndGet(b -> {
+			if (game(b) == MAX) {
+				throw new IllegalStateException("More than " + MAX + " games at matchday " + matchday(b));
+			}
+			return b + 1;
+		}));
+	}
+
+	/**
+	 * Returns the id of the next game, the next matchday is started after 65535
+	 * games (and the next season after 65535 matchdays), e.g. for games not
+	 * played by matchday.
+	 */
+	public GameId nextContinuous() {
+		return GameId.fromBinary(last.updateAndGet(b -> game(b) < MAX ? b + 1
+				: matchday(b) < MAX ? toBinary(season(b), matchday(b) + 1, 1) : toBinary(season(b) + 1, 1, 1)));
+	}
+
+	static long toBinary(int season, int matchday, int game) {
+		if (season < 0 || matchday < 0 || matchday > MAX || game < 0 || game > MAX) {
+			throw new IllegalArgumentException(season + "/" + matchday + "/" + game + " out of range");
+		}
+		return (long) season << 32 | (long) matchday << 16 | game;
+	}
+
+	/**
+	 * Returns the season of an id created by a {@link GameIdGenerator}.
+	 *
+	 * @throws IllegalStateException if the id has not been created by a
+	 *                               {@link GameIdGenerator}
+	 */
+	public static int seasonOf(GameId gameId) {
+		return season(gameId.toBinary());
+	}
+
+	static int season(long binary) {
+		return (int) (binary >>> 32);
+	}
+
+	static int matchday(long binary) {
+		return (int) (binary >>> 16) & MAX;
+	}
+
+	static int game(long binary) {
+		return (int) binary & MAX;
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.ase.fourwins.game;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies (in nanoseconds) with fixed memory and lock-free
+ * recording. Like in HdrHistogram the buckets are log-linear: each power of two
+ * is divided into {@value #SUB_BUCKETS_HALF} sub buckets, so values are kept
+ * with a relative error of at most 1/{@value #SUB_BUCKETS_HALF} (about 3%) no
+ * matter if they are microseconds or minutes. The maximum is kept exactly.
+ * <p>
+ * Recording is thread-safe, reading while recording returns values that may
+ * not include the latest recordings.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKETS_HALF = 1 << (SUB_BUCKET_BITS - 1);
+	private static final int BUCKETS = Long.SIZE - SUB_BUCKET_BITS + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray((BUCKETS + 1) * SUB_BUCKETS_HALF);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(index(value));
+		count.incrementAndGet();
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	private static int index(long value) {
+		int bucket = Math.max(0, Long.SIZE - 1 - numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1));
+		return bucket * SUB_BUCKETS_HALF + (int) (value >>> bucket);
+	}
+
+	/**
+	 * Returns the highest value that is recorded at <code>index</code>.
+	 */
+	private static long highestValueAt(int index) {
+		int bucket = Math.max(0, index / SUB_BUCKETS_HALF - 1);
+		long lowest = (long) (index - bucket * SUB_BUCKETS_HALF) << bucket;
+		return lowest + (1L << bucket) - 1;
+	}
+
+	public long count() {
+		return count.get();
+	}
+
+	public long max() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the value (in nanoseconds) <code>percentile</code> percent of the
+	 * recorded values are less than or equal to, <code>0</code> if nothing was
+	 * recorded.
+	 */
+	public long percentile(double percentile) {
+		long count = count();
+		if (count == 0) {
+			return 0;
+		}
+		long countToReach = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		long counted = 0;
+		for (int index = 0; index < counts.length(); index++) {
+			counted += counts.get(index);
+			if (counted >= countToReach) {
+				return Math.min(highestValueAt(index), max());
+			}
+		}
+		return max();
+	}
+
+	/**
+	 * Returns p50, p99 and max in milliseconds.
+	 */
+	@Override
+	public String toString() {
+		return "p50=" + millis(percentile(50)) + "ms, p99=" + millis(percentile(99)) + "ms, max=" + millis(max())
+				+ "ms";
+	}
+
+	private static String millis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / (double) MILLISECONDS.toNanos(1));
+	}
+
+}
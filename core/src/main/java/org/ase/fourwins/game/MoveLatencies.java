@@ -0,0 +1,95 @@
+package org.ase.fourwins.game;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+/**
+ * Latencies of the players (by token) recorded by {@link DefaultGame}s: how
+ * long the players took to answer for their next column, how many moves timed
+ * out and how long it took to inform them about inserted tokens.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class MoveLatencies {
+
+	@Getter
+	public static final class PlayerLatencies {
+
+		/** time between asking for the next column and getting it */
+		private final LatencyHistogram moves = new LatencyHistogram();
+		/** time spent in {@link Player#tokenWasInserted(String, int)} */
+		private final LatencyHistogram notifications = new LatencyHistogram();
+		private final LongAdder timeouts = new LongAdder();
+
+		@Override
+		public String toString() {
+			return "moves: " + moves.count() + " (" + moves + "), timeouts: " + timeouts + ", notifications: "
+					+ notifications;
+		}
+
+	}
+
+	private final Map<String, PlayerLatencies> players = new ConcurrentHashMap<>();
+
+	void moveAnswered(Player player, long nanos, Throwable exception) {
+		PlayerLatencies latencies = of(player.getToken());
+		latencies.moves.record(nanos);
+		if (isTimeout(exception)) {
+			latencies.timeouts.increment();
+		}
+	}
+
+	private static boolean isTimeout(Throwable exception) {
+		for (Throwable e = exception; e != null; e = e.getCause()) {
+			if (e instanceof TimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	void playerNotified(Player player, long nanos) {
+		of(player.getToken()).notifications.record(nanos);
+	}
+
+	/**
+	 * Returns the latencies of the player with the passed token, empty ones if
+	 * nothing has been recorded for that player.
+	 */
+	public PlayerLatencies of(String token) {
+		return players.computeIfAbsent(token, t -> new PlayerLatencies());
+	}
+
+	/**
+	 * Returns the latencies by token, the map is backed by this instance.
+	 */
+	public Map<String, PlayerLatencies> byToken() {
+		return unmodifiableMap(players);
+	}
+
+	/**
+	 * Returns one line per player, the slowest (p99 of moves) first.
+	 */
+	public String summary() {
+		Map<String, Long> p99s = new HashMap<>();
+		players.forEach((token, latencies) -> p99s.put(token, latencies.moves.percentile(99)));
+		return players.entrySet().stream()
+				.sorted(comparing((Map.Entry<String, PlayerLatencies> e) -> p99s.get(e.getKey())).reversed())
+				.map(e -> e.getKey() + ": " + e.getValue()).collect(joining(System.lineSeparator()));
+	}
+
+	@Override
+	public String toString() {
+		return summary();
+	}
+
+}
@@ -1,5 +1,9 @@
 package org.ase.fourwins.game;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletionStage;
+
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.BoardInfo;
 
@@ -18,6 +22,16 @@ public abstract class Player {
 
 	protected abstract int nextColumn();
 
+	/**
+	 * Like {@link #nextColumn()} but for players that do not want to block a thread
+	 * while deciding, e.g. while waiting for a response from the network. The game
+	 * goes on when the stage returned completes, if it completes exceptionally the
+	 * player has lost. Defaults to {@link #nextColumn()}.
+	 */
+	protected CompletionStage<Integer> nextColumnAsync() {
+		return completedFuture(nextColumn());
+	}
+
 	public boolean joinGame(String opposites, BoardInfo boardInfo) {
 		return true;
 	}
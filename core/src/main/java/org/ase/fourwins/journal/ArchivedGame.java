@@ -0,0 +1,104 @@
+package org.ase.fourwins.journal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.journal.JournalFormat.Decoder;
+
+import lombok.Getter;
+
+/**
+ * A game found in a {@link GameArchive}. It is a view on the memory-mapped
+ * record: only id, board and tokens are decoded, the columns are read from the
+ * mapping when iterated, so they are not copied onto the heap.
+ */
+public final class ArchivedGame {
+
+	/** the record, read-only */
+	private final ByteBuffer record;
+	@Getter
+	private final GameId gameId;
+	@Getter
+	private final BoardInfo boardInfo;
+	@Getter
+	private final List<String> tokens;
+	private final int moves;
+	private final int columnsStart;
+
+	ArchivedGame(ByteBuffer record) {
+		this.record = record;
+		Decoder decoder = new Decoder(record.duplicate());
+		this.gameId = decoder.readGameId();
+		this.boardInfo = decoder.readBoardInfo();
+		this.tokens = unmodifiableList(decoder.readTokens());
+		this.moves = decoder.readVarint();
+		this.columnsStart = decoder.position();
+	}
+
+	public int moves() {
+		return moves;
+	}
+
+	/**
+	 * Returns the columns of the moves, the first move first.
+	 */
+	public PrimitiveIterator.OfInt columns() {
+		Decoder decoder = decoderAtColumns();
+		return new PrimitiveIterator.OfInt() {
+
+			private int move;
+
+			@Override
+			public boolean hasNext() {
+				return move < moves;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				move++;
+				return decoder.readColumn();
+			}
+
+		};
+	}
+
+	public GameState getResult() {
+		Decoder decoder = decoderAtColumns();
+		decoder.skipColumns(moves);
+		return decoder.readResult(tokens);
+	}
+
+	/**
+	 * Returns a copy of this game on the heap.
+	 */
+	public GameRecord toRecord() {
+		int[] columns = new int[moves];
+		PrimitiveIterator.OfInt iterator = columns();
+		for (int move = 0; move < moves; move++) {
+			columns[move] = iterator.nextInt();
+		}
+		return new GameRecord(gameId, boardInfo, tokens, columns, getResult());
+	}
+
+	private Decoder decoderAtColumns() {
+		ByteBuffer buffer = record.duplicate();
+		buffer.position(columnsStart);
+		return new Decoder(buffer);
+	}
+
+	@Override
+	public String toString() {
+		return toRecord().toString();
+	}
+
+}
@@ -0,0 +1,575 @@
+package org.ase.fourwins.journal;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.ase.fourwins.journal.JournalFormat.varintLength;
+import static org.ase.fourwins.journal.JournalFormat.writeVarint;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.game.GameIdGenerator;
+import org.ase.fourwins.journal.JournalFormat.Decoder;
+
+/**
+ * Archive of {@link GameRecord}s to look them up by {@link GameId}.
+ * <p>
+ * The records are appended to memory-mapped segment files in the format of a
+ * journal (see {@link JournalFormat}). Once a segment has reached its maximum
+ * size or age it is sealed: the length of its records is written into the last
+ * bytes of its file and a new segment is started. All records are indexed by
+ * one memory-mapped open addressing hash table from the hash of the
+ * {@link GameId} to the segment and offset of the record, so looking up a game
+ * is a single probe whatever the number of segments:
+ *
+ * <pre>
+ * segment := record* unused* length(long)
+ * index   := capacity(int) sealedSegments(int) lastSeason(int) unused(int) slot*
+ * slot    := hash(long) segment &lt;&lt; 32 | offset + 1(long), 0 if the slot is empty
+ * </pre>
+ *
+ * Files are neither truncated nor replaced while they are mapped (which some
+ * platforms refuse): the segments keep the size they have been mapped with and
+ * the index is doubled into a file of the next generation once it is half full.
+ * The capacity of an index is written last, the newest complete generation is
+ * used, older ones are deleted when the archive is opened again. Records of all
+ * segments below <code>sealedSegments</code> are in the index; later
+ * segments (e.g. not sealed due to a crash) are scanned and indexed again when
+ * the archive is opened, the newest of them is continued. If a game id has
+ * been archived more than once, the newest record is found. The last season of
+ * the ids created by a {@link GameIdGenerator} is kept as well, so a tournament
+ * can continue after it (see {@link #lastSeason()}).
+ * <p>
+ * This class is thread-safe: records are appended one at a time, games are
+ * looked up without locking. The slots are written and read using volatile
+ * access, so a record found has been written completely.
+ */
+public final class GameArchive implements GameJournal.RecordWriter {
+
+	public static final int DEFAULT_MAX_SEGMENT_BYTES = 64 << 20;
+	public static final Duration DEFAULT_MAX_SEGMENT_AGE = Duration.ofDays(1);
+
+	private static final String DATA_SUFFIX = ".data";
+	private static final String INDEX_PREFIX = "archive-";
+	private static final String INDEX_SUFFIX = ".index";
+	private static final int INITIAL_SEGMENT_BYTES = 1 << 20;
+	private static final int INITIAL_INDEX_CAPACITY = 1 << 10;
+	private static final int INDEX_HEADER_BYTES = 16;
+	private static final int SLOT_BYTES = 16;
+	private static final int SEGMENT_TRAILER_BYTES = 8;
+	private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final class Index {
+
+		private final int generation;
+		private final MappedByteBuffer slots;
+		private final int mask;
+		private int size;
+
+		private Index(int generation, MappedByteBuffer slots, int capacity) {
+			this.generation = generation;
+			this.slots = slots;
+			this.mask = capacity - 1;
+		}
+
+		/**
+		 * Returns an index that is not used before it is {@link #complete()}.
+		 */
+		private static Index create(Path directory, int generation, int capacity, int sealedSegments,
+				int lastSeason) throws IOException {
+			Path file = indexFile(directory, generation);
+			Files.deleteIfExists(file);
+			MappedByteBuffer slots = map(file, READ_WRITE, INDEX_HEADER_BYTES + (long) capacity * SLOT_BYTES);
+			slots.putInt(4, sealedSegments).putInt(8, lastSeason);
+			return new Index(generation, slots, capacity);
+		}
+
+		/**
+		 * Returns <code>null</code> if the index is not complete (it is not mapped
+		 * then, so it can be deleted).
+		 */
+		private static Index load(Path file) throws IOException {
+			long bytes = Files.size(file);
+			int capacity = bytes < INDEX_HEADER_BYTES ? 0 : read(file, 0, Integer.BYTES).getInt(0);
+			if (capacity <= 0 || bytes != INDEX_HEADER_BYTES + (long) capacity * SLOT_BYTES) {
+				return null;
+			}
+			Index index = new Index(generation(file), map(file, READ_WRITE, bytes), capacity);
+			for (int slot = 0; slot <= index.mask; slot++) {
+				if (index.locationAt(slot) != 0) {
+					index.size++;
+				}
+			}
+			return index;
+		}
+
+		/**
+		 * Forces the slots before writing the capacity.
+		 */
+		private void complete() {
+			slots.force();
+			slots.putInt(0, capacity());
+			slots.force();
+		}
+
+		private int capacity() {
+			return mask + 1;
+		}
+
+		private int sealedSegments() {
+			return slots.getInt(4);
+		}
+
+		private int lastSeason() {
+			return slots.getInt(8);
+		}
+
+		private void setLastSeason(int lastSeason) {
+			slots.putInt(8, lastSeason);
+		}
+
+		private long hashAt(int slot) {
+			return (long) LONGS.getVolatile(slots, INDEX_HEADER_BYTES + slot * SLOT_BYTES);
+		}
+
+		private long locationAt(int slot) {
+			return (long) LONGS.getVolatile(slots, INDEX_HEADER_BYTES + slot * SLOT_BYTES + 8);
+		}
+
+		/**
+		 * The hash is written before the location so a slot is not used before it
+		 * has been written completely.
+		 */
+		private void put(int slot, long hash, long location) {
+			LONGS.setVolatile(slots, INDEX_HEADER_BYTES + slot * SLOT_BYTES, hash);
+			relocate(slot, location);
+		}
+
+		private void relocate(int slot, long location) {
+			LONGS.setVolatile(slots, INDEX_HEADER_BYTES + slot * SLOT_BYTES + 8, location);
+		}
+
+		/**
+		 * Forces the slots before recording that the segments below
+		 * <code>sealedSegments</code> need not be indexed again.
+		 */
+		private void markSealed(int sealedSegments) {
+			slots.force();
+			slots.putInt(4, sealedSegments);
+			slots.force();
+		}
+
+	}
+
+	private static final class Segment {
+
+		private final int number;
+		private final Path path;
+		private final long startedAt = System.nanoTime();
+		/** <code>null</code> once sealed */
+		private MappedByteBuffer mapping;
+		/** read-only view of the mapping, replaced as the segment grows */
+		private volatile ByteBuffer data;
+		private volatile int size;
+
+		private Segment(int number, Path path) {
+			this.number = number;
+			this.path = path;
+		}
+
+		private void map(long capacity) throws IOException {
+			mapping = GameArchive.map(path, READ_WRITE, capacity);
+			data = mapping.asReadOnlyBuffer();
+		}
+
+		/**
+		 * The length is written after the record so a record is not found when
+		 * scanning before it has been written completely.
+		 */
+		private int append(byte[] body) {
+			int offset = size;
+			ByteBuffer buffer = mapping.duplicate();
+			buffer.position(offset + varintLength(body.length));
+			buffer.put(body);
+			buffer.position(offset);
+			writeVarint(buffer, body.length);
+			size = offset + varintLength(body.length) + body.length;
+			return offset;
+		}
+
+		/**
+		 * Writes the length of the records into the last bytes of the file (which
+		 * is mapped in steps while it grows). Its high bytes are <code>0</code>, so
+		 * scanning the records of a segment not marked sealed stops at it.
+		 */
+		private void seal() throws IOException {
+			if (mapping.capacity() - size < SEGMENT_TRAILER_BYTES) {
+				map(size + SEGMENT_TRAILER_BYTES);
+			}
+			mapping.putLong(mapping.capacity() - SEGMENT_TRAILER_BYTES, size);
+			mapping.force();
+			mapping = null;
+		}
+
+		/**
+		 * Maps the records of a sealed segment read-only.
+		 */
+		private void load() throws IOException {
+			long length = read(path, Files.size(path) - SEGMENT_TRAILER_BYTES, SEGMENT_TRAILER_BYTES).getLong(0);
+			data = GameArchive.map(path, READ_ONLY, length);
+			size = data.capacity();
+		}
+
+		private boolean isOlderThan(Duration age) {
+			return System.nanoTime() - startedAt >= age.toNanos();
+		}
+
+	}
+
+	private final Path directory;
+	private final int maxSegmentBytes;
+	private final Duration maxSegmentAge;
+	private final Map<Integer, Segment> segments = new ConcurrentHashMap<>();
+	private volatile Index index;
+	private volatile int lastSeason;
+	private Segment activeSegment;
+	private int nextSegmentNumber;
+
+	private GameArchive(Path directory, int maxSegmentBytes, Duration maxSegmentAge) {
+		this.directory = directory;
+		this.maxSegmentBytes = maxSegmentBytes;
+		this.maxSegmentAge = maxSegmentAge;
+	}
+
+	public static GameArchive open(Path directory) throws IOException {
+		return open(directory, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_MAX_SEGMENT_AGE);
+	}
+
+	/**
+	 * Opens the archive in <code>directory</code> (created if it does not exist).
+	 * Segments are sealed once appending a record would exceed
+	 * <code>maxSegmentBytes</code> or they are older than
+	 * <code>maxSegmentAge</code>.
+	 */
+	public static GameArchive open(Path directory, int maxSegmentBytes, Duration maxSegmentAge) throws IOException {
+		if (maxSegmentBytes <= 0) {
+			throw new IllegalArgumentException("maxSegmentBytes must be positive but was " + maxSegmentBytes);
+		}
+		Files.createDirectories(directory);
+		GameArchive archive = new GameArchive(directory, maxSegmentBytes, maxSegmentAge);
+		archive.load();
+		return archive;
+	}
+
+	private synchronized void load() throws IOException {
+		index = loadIndex();
+		lastSeason = index.lastSeason();
+		List<Path> dataFiles = files(DATA_SUFFIX);
+		for (Path dataFile : dataFiles) {
+			Segment segment = new Segment(segmentNumber(dataFile), dataFile);
+			nextSegmentNumber = Math.max(nextSegmentNumber, segment.number + 1);
+			if (segment.number < index.sealedSegments()) {
+				segment.load();
+				segments.put(segment.number, segment);
+			} else {
+				if (activeSegment != null) {
+					seal(activeSegment);
+				}
+				activeSegment = recover(segment);
+			}
+		}
+	}
+
+	/**
+	 * Returns the newest complete index and deletes all other generations.
+	 */
+	private Index loadIndex() throws IOException {
+		Index newest = null;
+		List<Path> indexFiles = files(INDEX_SUFFIX);
+		for (int i = indexFiles.size() - 1; i >= 0; i--) {
+			if (newest == null) {
+				newest = Index.load(indexFiles.get(i));
+			}
+			if (newest == null || newest.generation != generation(indexFiles.get(i))) {
+				Files.delete(indexFiles.get(i));
+			}
+		}
+		if (newest == null) {
+			newest = Index.create(directory, 0, INITIAL_INDEX_CAPACITY, 0, 0);
+			newest.complete();
+		}
+		return newest;
+	}
+
+	/**
+	 * Returns the files of the archive having the suffix, sorted by their names.
+	 */
+	private List<Path> files(String suffix) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(p -> p.getFileName().toString().endsWith(suffix)).sorted().collect(toList());
+		}
+	}
+
+	/**
+	 * Scans the records of the segment and indexes them again.
+	 */
+	private Segment recover(Segment segment) throws IOException {
+		segment.map(Math.max(Files.size(segment.path), Math.min(maxSegmentBytes, INITIAL_SEGMENT_BYTES)));
+		segments.put(segment.number, segment);
+		ByteBuffer buffer = segment.mapping.duplicate();
+		while (buffer.hasRemaining()) {
+			int offset = buffer.position();
+			int length = readLength(buffer);
+			if (length <= 0 || length > buffer.remaining()) {
+				break;
+			}
+			buffer.position(buffer.position() + length);
+			segment.size = buffer.position();
+			index(gameAt(buffer, offset).getGameId(), location(segment.number, offset));
+		}
+		return segment;
+	}
+
+	/**
+	 * Returns <code>-1</code> if there is no complete length at the position of
+	 * the buffer.
+	 */
+	private static int readLength(ByteBuffer buffer) {
+		int length = 0;
+		for (int shift = 0; buffer.hasRemaining() && shift < 32; shift += 7) {
+			byte b = buffer.get();
+			length |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return length;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public synchronized void append(GameRecord record) throws IOException {
+		byte[] body = JournalFormat.encodeBody(record);
+		int length = varintLength(body.length) + body.length;
+		Segment segment = activeSegment;
+		if (segment != null && segment.size > 0
+				&& (segment.size + length > maxSegmentBytes || segment.isOlderThan(maxSegmentAge))) {
+			seal(segment);
+			segment = null;
+		}
+		if (segment == null) {
+			segment = newSegment();
+		}
+		if (segment.size + length > segment.mapping.capacity()) {
+			segment.map(Math.max(segment.size + length,
+					Math.min(2L * segment.mapping.capacity(), maxSegmentBytes)));
+		}
+		index(record.getGameId(), location(segment.number, segment.append(body)));
+		activeSegment = segment;
+	}
+
+	private Segment newSegment() throws IOException {
+		int number = nextSegmentNumber++;
+		Path dataFile = directory.resolve(String.format("segment-%08d%s", number, DATA_SUFFIX));
+		Files.newByteChannel(dataFile, CREATE_NEW, WRITE).close();
+		Segment segment = new Segment(number, dataFile);
+		segment.map(Math.min(maxSegmentBytes, INITIAL_SEGMENT_BYTES));
+		segments.put(number, segment);
+		return segment;
+	}
+
+	private void seal(Segment segment) throws IOException {
+		segment.seal();
+		index.markSealed(segment.number + 1);
+	}
+
+	/**
+	 * Puts the location of the record into the index, replacing the location of
+	 * an older record of the game (or one that has been lost in a crash).
+	 */
+	private void index(GameId gameId, long location) throws IOException {
+		if (index.size + 1 > index.capacity() / 2) {
+			index = grow(index);
+		}
+		int season = seasonOf(gameId);
+		if (season > lastSeason) {
+			lastSeason = season;
+			index.setLastSeason(season);
+		}
+		long hash = hash(gameId);
+		for (int slot = (int) hash & index.mask;; slot = (slot + 1) & index.mask) {
+			long current = index.locationAt(slot);
+			if (current == 0) {
+				index.put(slot, hash, location);
+				index.size++;
+				return;
+			}
+			if (index.hashAt(slot) == hash) {
+				ArchivedGame game = gameAt(current);
+				if (game == null || game.getGameId().equals(gameId)) {
+					index.relocate(slot, location);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the slots into an index of the next generation having twice the
+	 * capacity. Lookups still probing the old index find the games indexed so
+	 * far, its file is deleted when the archive is opened again.
+	 */
+	private Index grow(Index old) throws IOException {
+		Index grown = Index.create(directory, old.generation + 1, old.capacity() * 2, old.sealedSegments(),
+				old.lastSeason());
+		for (int slot = 0; slot <= old.mask; slot++) {
+			long location = old.locationAt(slot);
+			if (location != 0) {
+				long hash = old.hashAt(slot);
+				int to = (int) hash & grown.mask;
+				while (grown.locationAt(to) != 0) {
+					to = (to + 1) & grown.mask;
+				}
+				grown.put(to, hash, location);
+				grown.size++;
+			}
+		}
+		grown.complete();
+		return grown;
+	}
+
+	/**
+	 * Returns the game with the passed id, empty if it has not been archived.
+	 */
+	public Optional<ArchivedGame> find(GameId gameId) {
+		Index index = this.index;
+		long hash = hash(gameId);
+		for (int slot = (int) hash & index.mask;; slot = (slot + 1) & index.mask) {
+			long location = index.locationAt(slot);
+			if (location == 0) {
+				return Optional.empty();
+			}
+			if (index.hashAt(slot) == hash) {
+				ArchivedGame game = gameAt(location);
+				if (game != null && game.getGameId().equals(gameId)) {
+					return Optional.of(game);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the last season of the ids archived that have been created by a
+	 * {@link GameIdGenerator}, <code>0</code> if there are none.
+	 */
+	@Override
+	public int lastSeason() {
+		return lastSeason;
+	}
+
+	/**
+	 * Seals the active segment. The mappings are released once the archive (and
+	 * the games found) are garbage collected.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		Segment segment = activeSegment;
+		if (segment != null) {
+			seal(segment);
+			activeSegment = null;
+		}
+	}
+
+	/**
+	 * Returns <code>null</code> if the location is not (or no longer, e.g. after
+	 * a crash) within the records of a segment.
+	 */
+	private ArchivedGame gameAt(long location) {
+		Segment segment = segments.get((int) (location >>> 32));
+		int offset = (int) location - 1;
+		return segment == null || offset >= segment.size ? null : gameAt(segment.data, offset);
+	}
+
+	private static ArchivedGame gameAt(ByteBuffer data, int offset) {
+		ByteBuffer record = data.duplicate();
+		record.position(offset);
+		int length = new Decoder(record).readVarint();
+		record.limit(record.position() + length);
+		return new ArchivedGame(record.slice());
+	}
+
+	/**
+	 * Returns <code>0</code> for ids not created by a {@link GameIdGenerator}.
+	 */
+	private static int seasonOf(GameId gameId) {
+		try {
+			return GameIdGenerator.seasonOf(gameId);
+		} catch (IllegalStateException e) {
+			return 0;
+		}
+	}
+
+	private static long location(int segment, int offset) {
+		return (long) segment << 32 | offset + 1L;
+	}
+
+	/** FNV-1a */
+	private static long hash(GameId gameId) {
+		String id = gameId.getGameId();
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < id.length(); i++) {
+			hash = (hash ^ id.charAt(i)) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static MappedByteBuffer map(Path file, FileChannel.MapMode mode, long size) throws IOException {
+		try (FileChannel channel = mode == READ_ONLY ? FileChannel.open(file, READ)
+				: FileChannel.open(file, CREATE, READ, WRITE)) {
+			return channel.map(mode, 0, size);
+		}
+	}
+
+	private static ByteBuffer read(Path file, long position, int bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(bytes);
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			for (int read = 0; read >= 0 && buffer.hasRemaining();) {
+				read = channel.read(buffer, position + buffer.position());
+			}
+		}
+		return buffer;
+	}
+
+	private static Path indexFile(Path directory, int generation) {
+		return directory.resolve(String.format("%s%08d%s", INDEX_PREFIX, generation, INDEX_SUFFIX));
+	}
+
+	private static int generation(Path indexFile) {
+		String name = indexFile.getFileName().toString();
+		return Integer.parseInt(name.substring(INDEX_PREFIX.length(), name.length() - INDEX_SUFFIX.length()));
+	}
+
+	private static int segmentNumber(Path dataFile) {
+		String name = dataFile.getFileName().toString();
+		return Integer.parseInt(name.substring("segment-".length(), name.length() - DATA_SUFFIX.length()));
+	}
+
+}
@@ -0,0 +1,149 @@
+package org.ase.fourwins.journal;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.stream.Collectors.toList;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.game.Player;
+import org.ase.fourwins.tournament.listener.TournamentListener;
+
+/**
+ * Appends each game played to a journal (see {@link JournalFormat}) once it
+ * has ended. Read it using {@link GameJournalReader}, replay the games using
+ * {@link GameReplay}. Games can be written to a {@link GameArchive} as well to
+ * look them up by {@link GameId}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class GameJournal implements TournamentListener, Closeable {
+
+	/**
+	 * Where the records are written to, has to be thread-safe.
+	 */
+	public interface RecordWriter extends Closeable {
+		void append(GameRecord record) throws IOException;
+
+		/**
+		 * Returns the last season of the (generated) ids of the records written,
+		 * <code>0</code> if that is not known.
+		 */
+		default int lastSeason() {
+			return 0;
+		}
+	}
+
+	private static final class StreamWriter implements RecordWriter {
+
+		private final OutputStream out;
+
+		private StreamWriter(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public synchronized void append(GameRecord record) throws IOException {
+			out.write(JournalFormat.encode(record));
+			out.flush();
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			out.close();
+		}
+
+	}
+
+	/**
+	 * the columns of a running game, the moves of a game are reported one after
+	 * the other
+	 */
+	private static final class Moves {
+
+		private int[] columns = new int[16];
+		private int size;
+
+		private void add(int column) {
+			if (size == columns.length) {
+				columns = Arrays.copyOf(columns, size * 2);
+			}
+			columns[size++] = column;
+		}
+
+		private int[] columns() {
+			return Arrays.copyOf(columns, size);
+		}
+
+	}
+
+	private final Map<GameId, Moves> runningGames = new ConcurrentHashMap<>();
+	private final RecordWriter writer;
+
+	public GameJournal(Path file) throws IOException {
+		this(new BufferedOutputStream(Files.newOutputStream(file, CREATE, APPEND)));
+	}
+
+	public GameJournal(OutputStream out) {
+		this(new StreamWriter(out));
+	}
+
+	public GameJournal(RecordWriter writer) {
+		this.writer = writer;
+	}
+
+	@Override
+	public void gameStarted(Game game) {
+		runningGames.put(game.getId(), new Moves());
+	}
+
+	@Override
+	public void newTokenAt(Game game, String token, int column) {
+		Moves moves = runningGames.get(game.getId());
+		if (moves != null) {
+			moves.add(column);
+		}
+	}
+
+	@Override
+	public void gameEnded(Game game) {
+		Moves moves = runningGames.remove(game.getId());
+		append(new GameRecord(game.getId(), game.getBoardInfo(),
+				game.getPlayers().stream().map(Player::getToken).collect(toList()),
+				moves == null ? new int[0] : moves.columns(), game.gameState()));
+	}
+
+	/**
+	 * Appends the passed record, a journal file is flushed afterwards so the
+	 * record is not lost if the server crashes.
+	 */
+	public void append(GameRecord record) {
+		try {
+			writer.append(record);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public int lastSeasonPlayed() {
+		return writer.lastSeason();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+}
@@ -0,0 +1,80 @@
+package org.ase.fourwins.journal;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the {@link GameRecord}s written by a {@link GameJournal}, oldest
+ * first. An incomplete last record (e.g. if the server crashed while writing)
+ * is ignored.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+public final class GameJournalReader implements Iterator<GameRecord>, Closeable {
+
+	private final InputStream in;
+	private GameRecord next;
+
+	public GameJournalReader(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Returns the records of the passed journal file, the stream has to be
+	 * closed.
+	 */
+	public static Stream<GameRecord> records(Path file) throws IOException {
+		return new GameJournalReader(new BufferedInputStream(Files.newInputStream(file))).stream();
+	}
+
+	public Stream<GameRecord> stream() {
+		return StreamSupport.stream(spliteratorUnknownSize(this, ORDERED | NONNULL), false).onClose(() -> {
+			try {
+				close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			try {
+				next = JournalFormat.decode(in);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return next != null;
+	}
+
+	@Override
+	public GameRecord next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		GameRecord record = next;
+		next = null;
+		return record;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+}
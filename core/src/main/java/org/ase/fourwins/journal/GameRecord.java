@@ -0,0 +1,64 @@
+package org.ase.fourwins.journal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Game.GameId;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * A game as written to the {@link GameJournal}: the players' tokens (in the
+ * order they moved), the columns they chose and the result reported.
+ */
+@Value
+public class GameRecord {
+
+	GameId gameId;
+	BoardInfo boardInfo;
+	List<String> tokens;
+	@Getter(AccessLevel.NONE)
+	int[] columns;
+	GameState result;
+
+	public GameRecord(GameId gameId, BoardInfo boardInfo, List<String> tokens, int[] columns, GameState result) {
+		this.gameId = gameId;
+		this.boardInfo = boardInfo;
+		this.tokens = unmodifiableList(new ArrayList<>(tokens));
+		this.columns = columns.clone();
+		this.result = result;
+	}
+
+	public int moves() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the column of the <code>move</code>th move, the token of that move
+	 * is {@link #tokenOfMove(int)}.
+	 */
+	public int column(int move) {
+		return columns[move];
+	}
+
+	public String tokenOfMove(int move) {
+		return tokens.get(move % tokens.size());
+	}
+
+	public int[] columns() {
+		return columns.clone();
+	}
+
+	@Override
+	public String toString() {
+		return gameId + " " + boardInfo + " " + tokens + " " + Arrays.toString(columns) + " " + result;
+	}
+
+}
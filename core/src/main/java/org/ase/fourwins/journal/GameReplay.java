@@ -0,0 +1,83 @@
+package org.ase.fourwins.journal;
+
+import static org.ase.fourwins.board.Move.moveToColumn;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.BoardPool;
+import org.ase.fourwins.board.Tokens;
+
+/**
+ * Replays {@link GameRecord}s on {@link Board}s. The boards are pooled so
+ * replaying lots of games doesn't allocate a board per game.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class GameReplay {
+
+	private final BoardPool boardPool = new BoardPool();
+
+	/**
+	 * Returns the state of the board after all moves of the passed record.
+	 */
+	public GameState replay(GameRecord record) {
+		return replay(record, record.moves());
+	}
+
+	/**
+	 * Returns the state of the board after the first <code>moves</code> moves of
+	 * the passed record.
+	 */
+	public GameState replay(GameRecord record, int moves) {
+		return replay(record.getBoardInfo(), record.getTokens(), IntStream.range(0, moves).map(record::column).iterator(),
+				moves);
+	}
+
+	/**
+	 * Returns the state of the board after all moves of the passed game, the
+	 * columns are read from the archive one after the other.
+	 */
+	public GameState replay(ArchivedGame game) {
+		return replay(game.getBoardInfo(), game.getTokens(), game.columns(), game.moves());
+	}
+
+	private GameState replay(BoardInfo boardInfo, List<String> tokenList, PrimitiveIterator.OfInt columns,
+			int moves) {
+		Tokens tokens = Tokens.of(tokenList.toArray());
+		int players = tokenList.size();
+		Board board = boardPool.acquire(boardInfo);
+		try {
+			for (int move = 0; move < moves; move++) {
+				board = board.insertToken(moveToColumn(columns.nextInt()), tokens, move % players);
+			}
+			return board.gameState();
+		} finally {
+			boardPool.release(board);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if replaying the record results in the recorded
+	 * result. Games not decided on the board (players failing or timing out,
+	 * coffee breaks) are not confirmed.
+	 */
+	public boolean confirms(GameRecord record) {
+		return isSame(replay(record), record.getResult());
+	}
+
+	public boolean confirms(ArchivedGame game) {
+		return isSame(replay(game), game.getResult());
+	}
+
+	private static boolean isSame(GameState replayed, GameState recorded) {
+		return replayed.getScore() == recorded.getScore() && Objects.equals(replayed.getToken(), recorded.getToken())
+				&& Objects.equals(replayed.getReason(), recorded.getReason());
+	}
+
+}
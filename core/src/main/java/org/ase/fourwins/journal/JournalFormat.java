@@ -0,0 +1,243 @@
+package org.ase.fourwins.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.Board.Score;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Game.GameId;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * The journal is a sequence of records, each prefixed by its length. All
+ * numbers are unsigned LEB128 varints (columns are zigzag encoded since
+ * players may answer with negative ones), strings are their UTF-8 length
+ * followed by the bytes, nullable strings store length + 1 and
+ * <code>0</code> for <code>null</code>:
+ *
+ * <pre>
+ * record := length gameId columns rows toConnect
+ *           tokenCount token* moveCount column*
+ *           score resultToken reason
+ * </pre>
+ *
+ * <code>resultToken</code> is the index of the result's token in the tokens
+ * plus one, <code>0</code> if there is none. A game on a seven by six board
+ * with 30 moves and a random {@link GameId} takes about 100 bytes.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class JournalFormat {
+
+	private static final Score[] SCORES = Score.values();
+
+	static byte[] encode(GameRecord record) {
+		byte[] body = encodeBody(record);
+		ByteArrayOutputStream withLength = new ByteArrayOutputStream(body.length + 5);
+		writeVarint(withLength, body.length);
+		withLength.write(body, 0, body.length);
+		return withLength.toByteArray();
+	}
+
+	/**
+	 * Returns the record without its length.
+	 */
+	static byte[] encodeBody(GameRecord record) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64 + record.moves());
+		writeString(out, record.getGameId().getGameId());
+		BoardInfo boardInfo = record.getBoardInfo();
+		writeVarint(out, boardInfo.getColumns());
+		writeVarint(out, boardInfo.getRows());
+		writeVarint(out, boardInfo.getToConnect());
+		List<String> tokens = record.getTokens();
+		writeVarint(out, tokens.size());
+		tokens.forEach(t -> writeString(out, t));
+		writeVarint(out, record.moves());
+		for (int move = 0; move < record.moves(); move++) {
+			writeVarint(out, zigzag(record.column(move)));
+		}
+		GameState result = record.getResult();
+		writeVarint(out, result.getScore().ordinal());
+		writeVarint(out, tokens.indexOf(result.getToken()) + 1);
+		writeNullableString(out, result.getReason());
+		return out.toByteArray();
+	}
+
+	/**
+	 * Returns the next record of <code>in</code>, <code>null</code> if there is
+	 * none. A record that has not been written completely (e.g. due to a crash)
+	 * is handled like the end of the journal.
+	 */
+	static GameRecord decode(InputStream in) throws IOException {
+		int length;
+		try {
+			length = readVarint(in);
+		} catch (EOFException e) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		return in.readNBytes(bytes, 0, length) < length ? null : new Decoder(ByteBuffer.wrap(bytes)).record();
+	}
+
+	/**
+	 * Decodes the fields of a record (without its length) from the position of
+	 * a buffer on.
+	 */
+	static final class Decoder {
+
+		private final ByteBuffer buffer;
+
+		Decoder(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		GameRecord record() {
+			GameId gameId = readGameId();
+			BoardInfo boardInfo = readBoardInfo();
+			List<String> tokens = readTokens();
+			int[] columns = new int[readVarint()];
+			for (int move = 0; move < columns.length; move++) {
+				columns[move] = readColumn();
+			}
+			return new GameRecord(gameId, boardInfo, tokens, columns, readResult(tokens));
+		}
+
+		GameId readGameId() {
+			return new GameId(readString());
+		}
+
+		BoardInfo readBoardInfo() {
+			return BoardInfo.builder().columns(readVarint()).rows(readVarint()).toConnect(readVarint()).build();
+		}
+
+		List<String> readTokens() {
+			int tokenCount = readVarint();
+			List<String> tokens = new ArrayList<>(tokenCount);
+			for (int i = 0; i < tokenCount; i++) {
+				tokens.add(readString());
+			}
+			return tokens;
+		}
+
+		int position() {
+			return buffer.position();
+		}
+
+		int readColumn() {
+			return unzigzag(readVarint());
+		}
+
+		void skipColumns(int count) {
+			for (int i = 0; i < count; i++) {
+				readVarint();
+			}
+		}
+
+		GameState readResult(List<String> tokens) {
+			Score score = SCORES[readVarint()];
+			int resultToken = readVarint();
+			return GameState.builder().score(score).token(resultToken == 0 ? null : tokens.get(resultToken - 1))
+					.reason(readNullableString()).build();
+		}
+
+		int readVarint() {
+			int value = 0;
+			for (int shift = 0;; shift += 7) {
+				byte b = buffer.get();
+				value |= (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+		}
+
+		private String readString() {
+			return readString(readVarint());
+		}
+
+		private String readNullableString() {
+			int length = readVarint();
+			return length == 0 ? null : readString(length - 1);
+		}
+
+		private String readString(int length) {
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+			return new String(bytes, UTF_8);
+		}
+
+	}
+
+	private static int readVarint(InputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0;; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+	}
+
+	static int varintLength(int value) {
+		int length = 1;
+		while ((value & ~0x7F) != 0) {
+			value >>>= 7;
+			length++;
+		}
+		return length;
+	}
+
+	static void writeVarint(ByteBuffer buffer, int value) {
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String string) {
+		byte[] bytes = string.getBytes(UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static void writeNullableString(ByteArrayOutputStream out, String string) {
+		if (string == null) {
+			writeVarint(out, 0);
+		} else {
+			byte[] bytes = string.getBytes(UTF_8);
+			writeVarint(out, bytes.length + 1);
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+}
@@ -0,0 +1,170 @@
+package org.ase.fourwins.season;
+
+import static java.lang.Math.max;
+import static java.util.stream.IntStream.range;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The matches of a {@link Season} computed from their position instead of by
+ * rotating the teams matchday by matchday: on matchday <code>d</code> (of a
+ * round) the first team stays where it is and the others are rotated by
+ * <code>d</code> (the circle method of {@link DefaultRound}), slot
+ * <code>s</code> pairs the team at <code>s</code> with the one at
+ * <code>n - 1 - s</code>. The second round is the first one with each match
+ * reversed.
+ * <p>
+ * So each match can be looked up directly, e.g. to resume a season in the
+ * middle, and the {@link Spliterator} of the matches splits into halves
+ * without iterating, e.g. to distribute the matches to several workers. Matches
+ * are numbered by round, matchday and slot, the order is the one of
+ * {@link Season#getMatchdays()}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class Schedule<T> {
+
+	private final List<T> teams;
+	private final int matchdaysPerRound;
+	private final int matchesPerMatchday;
+
+	public Schedule(List<T> teams) {
+		if (teams.size() % 2 != 0) {
+			throw new IllegalArgumentException("Amount of teams must be even (was " + teams.size() + ")");
+		}
+		this.teams = List.copyOf(teams);
+		this.matchdaysPerRound = max(0, teams.size() - 1);
+		this.matchesPerMatchday = teams.size() / 2;
+	}
+
+	public int matchdaysPerRound() {
+		return matchdaysPerRound;
+	}
+
+	public int matchesPerMatchday() {
+		return matchesPerMatchday;
+	}
+
+	/**
+	 * Returns the count of matches of both rounds.
+	 */
+	public long size() {
+		return 2L * matchdaysPerRound * matchesPerMatchday;
+	}
+
+	/**
+	 * Returns the match of the passed round (<code>0</code> or <code>1</code>),
+	 * matchday (of the round) and slot (of the matchday), all counted from
+	 * <code>0</code>.
+	 */
+	public Match<T> match(int round, int matchday, int slot) {
+		checkIndex(round, 2);
+		checkIndex(matchday, matchdaysPerRound);
+		checkIndex(slot, matchesPerMatchday);
+		Match<T> match = new Match<T>(team(matchday, slot), team(matchday, teams.size() - 1 - slot));
+		return round == 0 ? match : match.reverse();
+	}
+
+	/**
+	 * Returns the match at the passed index of all matches of the season.
+	 */
+	public Match<T> match(long index) {
+		checkIndex(index, size());
+		long matchday = index / matchesPerMatchday;
+		return match((int) (matchday / matchdaysPerRound), (int) (matchday % matchdaysPerRound),
+				(int) (index % matchesPerMatchday));
+	}
+
+	/**
+	 * Returns the matchday at the passed index of all matchdays of the season.
+	 */
+	public Matchday<T> matchday(int matchday) {
+		checkIndex(matchday, 2L * matchdaysPerRound);
+		return () -> range(0, matchesPerMatchday)
+				.mapToObj(slot -> match(matchday / matchdaysPerRound, matchday % matchdaysPerRound, slot));
+	}
+
+	/**
+	 * Returns the team at <code>position</code> of the teams rotated for the
+	 * passed matchday of a round.
+	 */
+	private T team(int matchday, int position) {
+		return teams.get(position == 0 ? 0 : (matchday + position - 1) % (teams.size() - 1) + 1);
+	}
+
+	public Stream<Match<T>> matches() {
+		return matches(0);
+	}
+
+	/**
+	 * Returns the matches starting with the one at the passed index.
+	 */
+	public Stream<Match<T>> matches(long fromIndex) {
+		checkIndex(fromIndex, size() + 1);
+		return StreamSupport.stream(new MatchSpliterator(fromIndex, size()), false);
+	}
+
+	public Spliterator<Match<T>> spliterator() {
+		return new MatchSpliterator(0, size());
+	}
+
+	private static void checkIndex(long index, long size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+		}
+	}
+
+	private final class MatchSpliterator implements Spliterator<Match<T>> {
+
+		private long index;
+		private final long fence;
+
+		private MatchSpliterator(long index, long fence) {
+			this.index = index;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Match<T>> action) {
+			if (index >= fence) {
+				return false;
+			}
+			action.accept(match(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Match<T>> action) {
+			while (index < fence) {
+				action.accept(match(index++));
+			}
+		}
+
+		@Override
+		public Spliterator<Match<T>> trySplit() {
+			long middle = index + (fence - index) / 2;
+			if (middle == index) {
+				return null;
+			}
+			MatchSpliterator prefix = new MatchSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+		}
+
+	}
+
+}
@@ -0,0 +1,147 @@
+package org.ase.fourwins.season;
+
+import static java.util.stream.IntStream.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * {@link Round} of a Swiss-system tournament: instead of each team playing
+ * each other team there are only a few matchdays (about <code>log2(n)</code>,
+ * see {@link #roundsFor(int)}) and each matchday pairs teams having about the
+ * same standing. So a league of <code>n</code> teams plays
+ * <code>O(n log n)</code> matches instead of <code>O(n²)</code>.
+ * <p>
+ * The teams of a matchday are paired when its matches are requested, so the
+ * matches of the previous matchday have to be ended (and the standing updated)
+ * before. The teams are sorted by their standing (ties keep the order the teams
+ * were passed in) and each team not paired yet is paired with the next one it
+ * has not played yet. Teams left without such an opponent swap with a pair made
+ * before, rematches are only played if this fails as well. Sorting dominates,
+ * so pairing a matchday takes about <code>O(n log n)</code>.
+ * <p>
+ * The teams played are kept by the round, so each instance is for one season
+ * and the matches of each matchday can only be requested once.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller.
+ */
+public class SwissRound<T> implements Round<T> {
+
+	private final List<T> teams;
+	private final int rounds;
+	private final ToDoubleFunction<T> standing;
+	/** the indices of the teams each team has played so far */
+	private final int[][] opponents;
+	private final int[] played;
+
+	/**
+	 * @param standing returns the current standing of a team, higher is better
+	 */
+	public SwissRound(List<T> teams, int rounds, ToDoubleFunction<T> standing) {
+		if (teams.size() % 2 != 0) {
+			throw new IllegalArgumentException("Amount of teams must be even (was " + teams.size() + ")");
+		}
+		this.teams = List.copyOf(teams);
+		this.rounds = rounds;
+		this.standing = standing;
+		this.opponents = new int[teams.size()][rounds];
+		this.played = new int[teams.size()];
+	}
+
+	/**
+	 * Returns the matchdays needed to find a single winner among
+	 * <code>teams</code>: <code>ceil(log2(teams))</code>.
+	 */
+	public static int roundsFor(int teams) {
+		return teams <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(teams - 1);
+	}
+
+	@Override
+	public Stream<Matchday<T>> getMatchdays() {
+		return range(0, teams.isEmpty() ? 0 : rounds).mapToObj(i -> this::pairTeams);
+	}
+
+	private Stream<Match<T>> pairTeams() {
+		int[] ranking = ranking();
+		boolean[] paired = new boolean[teams.size()];
+		List<int[]> pairs = new ArrayList<>(teams.size() / 2);
+		for (int i = 0; i < ranking.length; i++) {
+			int team = ranking[i];
+			if (!paired[team]) {
+				int[] pair = pairOf(team, ranking, i + 1, paired, pairs);
+				paired[team] = paired[pair[0]] = paired[pair[1]] = true;
+				pairs.add(pair);
+			}
+		}
+		List<Match<T>> matches = new ArrayList<>(pairs.size());
+		for (int[] pair : pairs) {
+			addOpponent(pair[0], pair[1]);
+			addOpponent(pair[1], pair[0]);
+			matches.add(new Match<T>(teams.get(pair[0]), teams.get(pair[1])));
+		}
+		return matches.stream();
+	}
+
+	private int[] ranking() {
+		double[] standings = teams.stream().mapToDouble(standing).toArray();
+		Integer[] ranking = range(0, teams.size()).boxed().toArray(Integer[]::new);
+		Arrays.sort(ranking, Comparator.<Integer>comparingDouble(t -> standings[t]).reversed());
+		return Stream.of(ranking).mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the pair of <code>team</code> and the first team (starting at
+	 * <code>from</code> in the ranking) not paired yet and not played yet. If
+	 * there is none a pair already made is split if both of its teams can play
+	 * <code>team</code> and one of the teams not paired yet instead (the pair
+	 * made is changed, the other one is returned). Only if this fails either
+	 * <code>team</code> gets a rematch with the next team not paired yet.
+	 */
+	private int[] pairOf(int team, int[] ranking, int from, boolean[] paired, List<int[]> pairs) {
+		int rematch = -1;
+		for (int i = from; i < ranking.length; i++) {
+			int opponent = ranking[i];
+			if (!paired[opponent]) {
+				if (!hasPlayed(team, opponent)) {
+					return new int[] { team, opponent };
+				}
+				if (rematch < 0) {
+					rematch = opponent;
+				}
+			}
+		}
+		for (int i = from; i < ranking.length; i++) {
+			int other = ranking[i];
+			for (int p = pairs.size() - 1; !paired[other] && p >= 0; p--) {
+				int[] pair = pairs.get(p);
+				for (int side = 0; side < 2; side++) {
+					if (!hasPlayed(team, pair[side]) && !hasPlayed(other, pair[1 - side])) {
+						pairs.set(p, new int[] { pair[side], team });
+						return new int[] { pair[1 - side], other };
+					}
+				}
+			}
+		}
+		return new int[] { team, rematch };
+	}
+
+	private boolean hasPlayed(int team, int opponent) {
+		for (int i = 0; i < played[team]; i++) {
+			if (opponents[team][i] == opponent) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addOpponent(int team, int opponent) {
+		if (played[team] < rounds) {
+			opponents[team][played[team]++] = opponent;
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package org.ase.fourwins.solver;
+
+import static org.ase.fourwins.board.Board.Score.DRAW;
+import static org.ase.fourwins.board.Board.Score.WIN;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Adjudicator;
+
+/**
+ * {@link Adjudicator} searching (see {@link Solver}) up to a fixed number of
+ * moves ahead after each move: If one of the players can force a win within
+ * these moves, that player wins. If no line can be connected anymore, the game is a
+ * draw. Games of more than two players and boards the solver can't search
+ * are not adjudicated.
+ * <p>
+ * This class is thread-safe, each game gets its own (small)
+ * {@link TranspositionTable}.
+ */
+public class ForcedWinAdjudicator implements Adjudicator {
+
+	public static final int DEFAULT_DEPTH = 8;
+
+	private static final int TABLE_SIZE = 1 << 12;
+
+	private static final Adjudication NONE = (slot, column) -> Optional.empty();
+
+	private final int depth;
+
+	public ForcedWinAdjudicator() {
+		this(DEFAULT_DEPTH);
+	}
+
+	/**
+	 * @param depth how many moves to search ahead
+	 */
+	public ForcedWinAdjudicator(int depth) {
+		this.depth = depth;
+	}
+
+	@Override
+	public Adjudication newGame(BoardInfo boardInfo, List<String> tokens) {
+		if (tokens.size() != 2 || !Position.fits(boardInfo)) {
+			return NONE;
+		}
+		Position position = new Position(new Position.Geometry(boardInfo));
+		Solver solver = new Solver(new TranspositionTable(TABLE_SIZE), null);
+		return (slot, column) -> {
+			position.play(column);
+			if (!position.canConnect()) {
+				return Optional.of(GameState.builder().score(DRAW).reason(ADJUDICATED).build());
+			}
+			int score = solver.score(position, depth);
+			int decided = Solver.WIN - position.geometry.cells;
+			if (Math.abs(score) < decided) {
+				return Optional.empty();
+			}
+			// the player to move is the other one
+			String winner = tokens.get(score > 0 ? 1 - slot : slot);
+			return Optional.of(GameState.builder().score(WIN).token(winner).reason(ADJUDICATED).build());
+		};
+	}
+
+}
@@ -0,0 +1,296 @@
+package org.ase.fourwins.solver;
+
+import org.ase.fourwins.board.BoardInfo;
+
+/**
+ * Position of a two player game as two <code>long</code>s: the cells of the
+ * player to move and the cells occupied by any player. Like the board used by
+ * the server each column occupies <code>rows + 1</code> bits (bottom cell
+ * first), the topmost bit is never set so lines cannot wrap into the
+ * neighbouring column. Playing a column adds the bottom bit of the column to
+ * the occupied cells, the carry moves it up to the first free cell.
+ * <p>
+ * The mirrored (left/right) position is kept as well, so a position and its
+ * mirror image share their {@link #canonicalKey()}.
+ * <p>
+ * Not thread-safe, has to be synchronized by caller. Searching in parallel
+ * works on copies.
+ */
+final class Position {
+
+	private static final int THREAT = 4;
+
+	/**
+	 * The parts of a position that only depend on the {@link BoardInfo}.
+	 */
+	static final class Geometry {
+
+		final int columns;
+		final int rows;
+		final int toConnect;
+		final int cells;
+		/** bit distance of two neighbouring cells per direction */
+		final int[] shifts;
+		/** per direction the cells a line of toConnect cells can start at */
+		final long[] lineStarts;
+		private final int height;
+		private final long[] columnMasks;
+		/** the columns, the center first */
+		final int[] order;
+		private final long board;
+		/** the rows the first player wants to connect lines in (1st, 3rd, ...) */
+		private final long oddRows;
+
+		Geometry(BoardInfo boardInfo) {
+			this.columns = boardInfo.getColumns();
+			this.rows = boardInfo.getRows();
+			this.toConnect = boardInfo.getToConnect();
+			this.cells = columns * rows;
+			this.height = rows + 1;
+			this.shifts = new int[] { 1, height, height + 1, height - 1 };
+			this.columnMasks = new long[columns];
+			long board = 0;
+			for (int column = 0; column < columns; column++) {
+				columnMasks[column] = ((1L << rows) - 1) << column * height;
+				board |= columnMasks[column];
+			}
+			this.board = board;
+			long oddRows = 0;
+			for (int row = 0; row < rows; row += 2) {
+				oddRows |= horizontalShifts(1L << row);
+			}
+			this.oddRows = oddRows;
+			this.lineStarts = new long[shifts.length];
+			for (int d = 0; d < shifts.length; d++) {
+				long starts = board;
+				for (int i = 1; i < toConnect; i++) {
+					starts &= shiftRight(board, shifts[d] * i);
+				}
+				lineStarts[d] = starts;
+			}
+			this.order = new int[columns];
+			for (int i = 0; i < columns; i++) {
+				order[i] = columns / 2 + (1 - 2 * (i % 2)) * (i + 1) / 2;
+			}
+		}
+
+		private long horizontalShifts(long cell) {
+			long cells = 0;
+			for (int column = 0; column < columns; column++) {
+				cells |= cell << column * height;
+			}
+			return cells;
+		}
+
+		private long bottom(int column) {
+			return 1L << column * height;
+		}
+
+		private long top(int column) {
+			return 1L << column * height + rows - 1;
+		}
+
+	}
+
+	final Geometry geometry;
+	private long current;
+	private long mask;
+	private long mirroredCurrent;
+	private long mirroredMask;
+	private int moves;
+
+	static boolean fits(BoardInfo boardInfo) {
+		return boardInfo.getColumns() > 0 && boardInfo.getRows() > 0
+				&& (long) boardInfo.getColumns() * (boardInfo.getRows() + 1) <= Long.SIZE;
+	}
+
+	Position(Geometry geometry) {
+		this.geometry = geometry;
+	}
+
+	Position copy() {
+		Position copy = new Position(geometry);
+		copy.current = current;
+		copy.mask = mask;
+		copy.mirroredCurrent = mirroredCurrent;
+		copy.mirroredMask = mirroredMask;
+		copy.moves = moves;
+		return copy;
+	}
+
+	int moves() {
+		return moves;
+	}
+
+	boolean isFull() {
+		return moves == geometry.cells;
+	}
+
+	boolean canPlay(int column) {
+		return (mask & geometry.top(column)) == 0;
+	}
+
+	void play(int column) {
+		current ^= mask;
+		mask |= mask + geometry.bottom(column);
+		mirroredCurrent ^= mirroredMask;
+		mirroredMask |= mirroredMask + geometry.bottom(mirrored(column));
+		moves++;
+	}
+
+	void undo(int column) {
+		mask ^= Long.highestOneBit(mask & geometry.columnMasks[column]);
+		current ^= mask;
+		mirroredMask ^= Long.highestOneBit(mirroredMask & geometry.columnMasks[mirrored(column)]);
+		mirroredCurrent ^= mirroredMask;
+		moves--;
+	}
+
+	private int mirrored(int column) {
+		return geometry.columns - 1 - column;
+	}
+
+	/**
+	 * Returns <code>true</code> if the player to move connects a line by playing
+	 * the passed (playable) column.
+	 */
+	boolean isWinningMove(int column) {
+		return isLine(current | newCell(column));
+	}
+
+	/**
+	 * Returns <code>true</code> if the other player would connect a line if it
+	 * could play the passed (playable) column.
+	 */
+	boolean isOpponentWinningMove(int column) {
+		return isLine((current ^ mask) | newCell(column));
+	}
+
+	private long newCell(int column) {
+		return (mask + geometry.bottom(column)) & geometry.columnMasks[column];
+	}
+
+	/**
+	 * Returns a unique key of this position.
+	 */
+	long key() {
+		return current + mask;
+	}
+
+	/**
+	 * Returns the same key for this position and its mirror image: the smaller
+	 * one of their {@link #key()}s.
+	 */
+	long canonicalKey() {
+		return Math.min(key(), mirroredCurrent + mirroredMask);
+	}
+
+	/**
+	 * Returns the passed column of this position as the column of the position
+	 * having the {@link #canonicalKey()} and vice versa (<code>-1</code> is kept).
+	 */
+	int canonicalColumn(int column) {
+		return column < 0 || key() <= mirroredCurrent + mirroredMask ? column : mirrored(column);
+	}
+
+	private boolean isLine(long cells) {
+		int[] shifts = geometry.shifts;
+		for (int d = 0; d < shifts.length; d++) {
+			long line = cells;
+			for (int i = 1; i < geometry.toConnect && line != 0; i++) {
+				line &= shiftRight(cells, shifts[d] * i);
+			}
+			if (line != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if there is a line any of the players can still
+	 * connect, i.e. one not containing tokens of the other player.
+	 */
+	boolean canConnect() {
+		long own = current;
+		long other = current ^ mask;
+		int[] shifts = geometry.shifts;
+		for (int d = 0; d < shifts.length; d++) {
+			long withOwn = 0;
+			long withOther = 0;
+			for (int i = 0; i < geometry.toConnect; i++) {
+				withOwn |= shiftRight(own, shifts[d] * i);
+				withOther |= shiftRight(other, shifts[d] * i);
+			}
+			if ((geometry.lineStarts[d] & ~(withOwn & withOther)) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Rates the position for the player to move: the lines it can still connect
+	 * (only counting lines containing at least one of its tokens) and the empty
+	 * cells completing a line (threats) minus the ones of the other player.
+	 * Threats in the rows the player can expect to get to fill (the odd ones for
+	 * the first player, the even ones for the second) count twice.
+	 */
+	int evaluate() {
+		long own = current;
+		long other = current ^ mask;
+		long empty = geometry.board & ~mask;
+		long ownThreats = threats(own) & empty;
+		long otherThreats = threats(other) & empty;
+		long ownRows = moves % 2 == 0 ? geometry.oddRows : geometry.board & ~geometry.oddRows;
+		long otherRows = geometry.board & ~ownRows;
+		int score = THREAT * (Long.bitCount(ownThreats) + Long.bitCount(ownThreats & ownRows)
+				- Long.bitCount(otherThreats) - Long.bitCount(otherThreats & otherRows));
+		int[] shifts = geometry.shifts;
+		for (int d = 0; d < shifts.length; d++) {
+			long withOwn = 0;
+			long withOther = 0;
+			for (int i = 0; i < geometry.toConnect; i++) {
+				withOwn |= shiftRight(own, shifts[d] * i);
+				withOther |= shiftRight(other, shifts[d] * i);
+			}
+			long starts = geometry.lineStarts[d];
+			score += Long.bitCount(starts & withOwn & ~withOther) - Long.bitCount(starts & withOther & ~withOwn);
+		}
+		return score;
+	}
+
+	/**
+	 * Returns the cells that would connect a line with the passed cells.
+	 */
+	private long threats(long cells) {
+		int[] shifts = geometry.shifts;
+		int toConnect = geometry.toConnect;
+		long threats = 0;
+		for (int d = 0; d < shifts.length; d++) {
+			for (int gap = 0; gap < toConnect; gap++) {
+				long line = -1L;
+				for (int i = 0; i < toConnect && line != 0; i++) {
+					if (i != gap) {
+						line &= shift(cells, shifts[d] * (i - gap));
+					}
+				}
+				threats |= line;
+			}
+		}
+		return threats;
+	}
+
+	/**
+	 * Returns the bits moved so bit <code>b</code> is bit
+	 * <code>b + distance</code> of the passed ones.
+	 */
+	private static long shift(long bits, int distance) {
+		return distance >= 0 ? shiftRight(bits, distance) : -distance >= Long.SIZE ? 0 : bits << -distance;
+	}
+
+	private static long shiftRight(long bits, int distance) {
+		return distance >= Long.SIZE ? 0 : bits >>> distance;
+	}
+
+}
@@ -0,0 +1,238 @@
+package org.ase.fourwins.solver;
+
+import static java.util.stream.Collectors.toList;
+import static org.ase.fourwins.solver.TranspositionTable.EXACT;
+import static org.ase.fourwins.solver.TranspositionTable.LOWER;
+import static org.ase.fourwins.solver.TranspositionTable.NONE;
+import static org.ase.fourwins.solver.TranspositionTable.UPPER;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Searches the best column using negamax with alpha-beta pruning and iterative
+ * deepening: the depth is increased until the time is up, the column of the
+ * last completed depth is played. Results are kept in a
+ * {@link TranspositionTable} shared by mirrored positions, columns are tried
+ * best known first, then center first. Positions beyond the depth are rated by
+ * {@link Position#evaluate()}.
+ * <p>
+ * If a {@link ForkJoinPool} is passed, the first column at the root is searched
+ * first, then the remaining columns are searched in parallel using its score
+ * as lower bound.
+ * <p>
+ * This class is thread-safe (one search at a time per position).
+ */
+final class Solver {
+
+	/** scores of won positions, minus the moves needed to win */
+	static final int WIN = 1 << 20;
+
+	private static final int INFINITY = WIN + 1;
+
+	private static final int NODES_BETWEEN_CLOCK_CHECKS = 1 << 10;
+
+	@SuppressWarnings("serial")
+	private static final class TimeIsUp extends RuntimeException {
+
+		private TimeIsUp() {
+			super(null, null, false, false);
+		}
+
+	}
+
+	private static final TimeIsUp TIME_IS_UP = new TimeIsUp();
+
+	private final TranspositionTable table;
+	private final ForkJoinPool pool;
+
+	/**
+	 * @param pool where to search the root columns in parallel, <code>null</code>
+	 *             to search sequentially
+	 */
+	Solver(TranspositionTable table, ForkJoinPool pool) {
+		this.table = table;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the column to play in the passed position (which must not be full
+	 * nor be won already). If <code>deadline</code> (see
+	 * {@link System#nanoTime()}) is reached before the search of a depth has been
+	 * completed, the column of the previous depth is returned.
+	 */
+	int bestColumn(Position position, long deadline) {
+		Position.Geometry geometry = position.geometry;
+		int best = -1;
+		for (int column : geometry.order) {
+			if (position.canPlay(column)) {
+				if (position.isWinningMove(column)) {
+					return column;
+				}
+				if (best < 0 || position.isOpponentWinningMove(column)) {
+					best = column;
+				}
+			}
+		}
+		int remaining = geometry.cells - position.moves();
+		for (int depth = 1; depth <= remaining; depth++) {
+			try {
+				long result = searchRoot(position, depth, deadline);
+				best = (int) result;
+				if (Math.abs((int) (result >> 32)) >= WIN - geometry.cells) {
+					break;
+				}
+			} catch (TimeIsUp e) {
+				break;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the score of the position for the player to move searching
+	 * <code>depth</code> moves ahead. Scores of at least
+	 * <code>WIN - cells</code> are forced wins, at most
+	 * <code>-(WIN - cells)</code> forced losses.
+	 */
+	int score(Position position, int depth) {
+		return new Search(position.copy(), System.nanoTime() + Long.MAX_VALUE).negamax(depth, -INFINITY, INFINITY);
+	}
+
+	/**
+	 * Returns the score (high bits) and the column (low bits) found.
+	 */
+	private long searchRoot(Position position, int depth, long deadline) {
+		List<Integer> columns = orderedColumns(position,
+				position.canonicalColumn(TranspositionTable.column(table.get(position.canonicalKey()))));
+		Search search = new Search(position.copy(), deadline);
+		int best = columns.get(0);
+		int bestScore = search.scoreOf(best, depth, -INFINITY, INFINITY);
+		AtomicInteger alpha = new AtomicInteger(bestScore);
+		List<Integer> others = columns.subList(1, columns.size());
+		List<Integer> scores;
+		if (pool == null) {
+			scores = others.stream().map(c -> search.scoreOf(c, depth, alpha)).collect(toList());
+		} else {
+			List<ForkJoinTask<Integer>> tasks = others.stream()
+					.map(c -> pool.submit(() -> new Search(position.copy(), deadline).scoreOf(c, depth, alpha)))
+					.collect(toList());
+			scores = tasks.stream().map(ForkJoinTask::join).collect(toList());
+		}
+		for (int i = 0; i < scores.size(); i++) {
+			if (scores.get(i) > bestScore) {
+				bestScore = scores.get(i);
+				best = others.get(i);
+			}
+		}
+		table.put(position.canonicalKey(), bestScore, depth, EXACT, position.canonicalColumn(best));
+		return (long) bestScore << 32 | best;
+	}
+
+	private List<Integer> orderedColumns(Position position, int bestKnown) {
+		return IntStream.concat(IntStream.of(bestKnown), IntStream.of(position.geometry.order))
+				.filter(c -> c >= 0 && position.canPlay(c)).distinct().boxed().collect(toList());
+	}
+
+	/**
+	 * The search of one thread.
+	 */
+	private final class Search {
+
+		private final Position position;
+		private final long deadline;
+		private int nodes;
+
+		private Search(Position position, long deadline) {
+			this.position = position;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Returns the score of playing the column, searched using the best score
+		 * known so far as lower bound (and updating it).
+		 */
+		private int scoreOf(int column, int depth, AtomicInteger alpha) {
+			int score = scoreOf(column, depth, alpha.get(), INFINITY);
+			alpha.accumulateAndGet(score, Math::max);
+			return score;
+		}
+
+		private int scoreOf(int column, int depth, int alpha, int beta) {
+			position.play(column);
+			try {
+				return -negamax(depth - 1, -beta, -alpha);
+			} finally {
+				position.undo(column);
+			}
+		}
+
+		private int negamax(int depth, int alpha, int beta) {
+			if (++nodes % NODES_BETWEEN_CLOCK_CHECKS == 0 && System.nanoTime() - deadline >= 0) {
+				throw TIME_IS_UP;
+			}
+			if (position.isFull()) {
+				return 0;
+			}
+			int[] order = position.geometry.order;
+			for (int column : order) {
+				if (position.canPlay(column) && position.isWinningMove(column)) {
+					return WIN - position.moves() - 1;
+				}
+			}
+			int forced = -1;
+			for (int column : order) {
+				if (position.canPlay(column) && position.isOpponentWinningMove(column)) {
+					if (forced >= 0) {
+						return -(WIN - position.moves() - 2);
+					}
+					forced = column;
+				}
+			}
+			if (depth <= 0) {
+				return position.evaluate();
+			}
+			if (forced >= 0) {
+				return scoreOf(forced, depth, alpha, beta);
+			}
+
+			long key = position.canonicalKey();
+			long entry = table.get(key);
+			int bestKnown = -1;
+			if (entry != NONE) {
+				bestKnown = position.canonicalColumn(TranspositionTable.column(entry));
+				if (TranspositionTable.depth(entry) >= depth) {
+					int score = TranspositionTable.score(entry);
+					int bound = TranspositionTable.bound(entry);
+					if (bound == EXACT || bound == LOWER && score >= beta || bound == UPPER && score <= alpha) {
+						return score;
+					}
+				}
+			}
+
+			int originalAlpha = alpha;
+			int bestScore = -INFINITY;
+			int best = -1;
+			for (int i = -1; i < order.length && alpha < beta; i++) {
+				int column = i < 0 ? bestKnown : order[i];
+				if (column < 0 || i >= 0 && column == bestKnown || !position.canPlay(column)) {
+					continue;
+				}
+				int score = scoreOf(column, depth, alpha, beta);
+				if (score > bestScore) {
+					bestScore = score;
+					best = column;
+					alpha = Math.max(alpha, score);
+				}
+			}
+			int bound = bestScore <= originalAlpha ? UPPER : bestScore >= beta ? LOWER : EXACT;
+			table.put(key, bestScore, depth, bound, position.canonicalColumn(best));
+			return bestScore;
+		}
+
+	}
+
+}
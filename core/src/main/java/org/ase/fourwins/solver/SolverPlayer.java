@@ -0,0 +1,99 @@
+package org.ase.fourwins.solver;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Player;
+
+/**
+ * Strong {@link Player} to calibrate other players against: each move is
+ * searched (see {@link Solver}) until the time per move is used up. To answer
+ * in time a search should get a good deal less than the timeout of the server,
+ * see {@link #timePerMove(Duration)}.
+ * <p>
+ * Boards with more than <code>64</code> cells (including one extra row) and
+ * games with more than one opponent are not searched, the column closest to
+ * the center that is not full is played then.
+ * <p>
+ * Not thread-safe, plays one game at a time.
+ */
+public class SolverPlayer extends Player {
+
+	public static final int DEFAULT_TABLE_SIZE = 1 << 19;
+
+	private final Duration timePerMove;
+	private final ForkJoinPool pool;
+	private BoardInfo boardInfo;
+	private Position.Geometry geometry;
+	private Solver solver;
+	private Position position;
+	private int[] heights;
+
+	public SolverPlayer(String token, Duration timePerMove) {
+		this(token, timePerMove, null);
+	}
+
+	/**
+	 * @param pool where to search in parallel, <code>null</code> to search on the
+	 *             calling thread only
+	 */
+	public SolverPlayer(String token, Duration timePerMove, ForkJoinPool pool) {
+		super(token);
+		this.timePerMove = timePerMove;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the time a move may be searched if the server waits
+	 * <code>timeout</code> for an answer: three quarters of it, leaving time for
+	 * the network and the garbage collector.
+	 */
+	public static Duration timePerMove(Duration timeout) {
+		return timeout.multipliedBy(3).dividedBy(4);
+	}
+
+	@Override
+	public boolean joinGame(String opposites, BoardInfo boardInfo) {
+		if (!boardInfo.equals(this.boardInfo)) {
+			this.boardInfo = boardInfo;
+			this.geometry = Position.fits(boardInfo) ? new Position.Geometry(boardInfo) : null;
+			this.solver = new Solver(new TranspositionTable(DEFAULT_TABLE_SIZE), pool);
+		}
+		boolean searchable = geometry != null && !opposites.contains(",");
+		this.position = searchable ? new Position(geometry) : null;
+		this.heights = new int[boardInfo.getColumns()];
+		return true;
+	}
+
+	@Override
+	protected int nextColumn() {
+		if (position == null) {
+			return centerMostColumn();
+		}
+		return solver.bestColumn(position, System.nanoTime() + timePerMove.toNanos());
+	}
+
+	private int centerMostColumn() {
+		int columns = heights.length;
+		for (int i = 0; i < columns; i++) {
+			int column = columns / 2 + (1 - 2 * (i % 2)) * (i + 1) / 2;
+			if (heights[column] < boardInfo.getRows()) {
+				return column;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	protected void tokenWasInserted(String token, int column) {
+		if (column < 0 || column >= heights.length || heights[column] >= boardInfo.getRows()) {
+			return;
+		}
+		heights[column]++;
+		if (position != null) {
+			position.play(column);
+		}
+	}
+
+}
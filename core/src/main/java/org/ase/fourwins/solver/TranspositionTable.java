@@ -0,0 +1,80 @@
+package org.ase.fourwins.solver;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of search results by {@link Position#canonicalKey()}, the
+ * columns stored are the ones of the canonical position. Each entry is a pair
+ * of <code>long</code>s: the key XOR-ed with the data and the data itself. A
+ * racing write of another thread mixes up the halves of an entry, which then
+ * no longer matches its key and is ignored, so no locks are needed. Colliding
+ * entries simply replace each other.
+ *
+ * <pre>
+ * data := score(32 bits) depth(16 bits) bound(8 bits) column + 1(8 bits)
+ * </pre>
+ *
+ * This class is thread-safe.
+ */
+final class TranspositionTable {
+
+	static final int EXACT = 0;
+	static final int LOWER = 1;
+	static final int UPPER = 2;
+
+	/** returned if there is no entry */
+	static final long NONE = 0;
+
+	private final AtomicLongArray entries;
+	private final int mask;
+
+	/**
+	 * @param size number of entries, rounded up to a power of two
+	 */
+	TranspositionTable(int size) {
+		int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+		this.entries = new AtomicLongArray(2 * capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns the data stored for the key, {@link #NONE} if there is none.
+	 */
+	long get(long key) {
+		int index = index(key);
+		long data = entries.get(index + 1);
+		return data != NONE && (entries.get(index) ^ data) == key ? data : NONE;
+	}
+
+	void put(long key, int score, int depth, int bound, int column) {
+		long data = (long) score << 32 | (depth & 0xFFFFL) << 16 | (bound & 0xFFL) << 8 | (column + 1) & 0xFFL;
+		int index = index(key);
+		entries.lazySet(index, key ^ data);
+		entries.lazySet(index + 1, data);
+	}
+
+	static int score(long data) {
+		return (int) (data >> 32);
+	}
+
+	static int depth(long data) {
+		return (int) (data >>> 16) & 0xFFFF;
+	}
+
+	static int bound(long data) {
+		return (int) (data >>> 8) & 0xFF;
+	}
+
+	/**
+	 * Returns the best column found, <code>-1</code> if there is none.
+	 */
+	static int column(long data) {
+		return ((int) data & 0xFF) - 1;
+	}
+
+	private int index(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> 32 ^ hash) & mask << 1;
+	}
+
+}
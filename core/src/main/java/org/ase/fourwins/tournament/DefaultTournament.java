@@ -1,37 +1,64 @@
 package org.ase.fourwins.tournament;
 
 import static java.lang.String.format;
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.concat;
 import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.tournament.GameExecutors.newGameExecutor;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.ase.fourwins.board.Board;
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.BoardPool;
+import org.ase.fourwins.game.Adjudicator;
 import org.ase.fourwins.game.DefaultGame;
 import org.ase.fourwins.game.DefaultGame.MoveListener;
 import org.ase.fourwins.game.Game;
 import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.game.GameIdGenerator;
+import org.ase.fourwins.game.MoveLatencies;
 import org.ase.fourwins.game.Player;
 import org.ase.fourwins.season.Match;
 import org.ase.fourwins.season.Matchday;
 import org.ase.fourwins.season.Season;
+import org.ase.fourwins.season.SwissRound;
 import org.ase.fourwins.tournament.listener.TournamentListener;
 
 import lombok.Getter;
 
 public class DefaultTournament implements Tournament {
 
+	public static final int DEFAULT_MAX_CONCURRENT_GAMES = 256;
+
+	/** shared by all tournaments not having an executor set */
+	private static final Executor defaultGameExecutor = newGameExecutor(DEFAULT_MAX_CONCURRENT_GAMES);
+
 	@Getter
 	private BoardInfo boardInfo = BoardInfo.sevenColsSixRows;
 
+	private Executor gameExecutor = defaultGameExecutor;
+	private Semaphore concurrentGames = new Semaphore(DEFAULT_MAX_CONCURRENT_GAMES);
+	private volatile MoveLatencies moveLatencies = new MoveLatencies();
+	private Adjudicator adjudicator;
+	private int swissRounds;
+	/** the standing of the current Swiss season, <code>null</code> otherwise */
+	private volatile ScoreSheet standings;
+
 	static final class CoffeebreakGame implements Game {
 
 		static final String COFFEE_BREAK_WIN_MESSAGE = "coffee break";
@@ -75,6 +102,8 @@ public class DefaultTournament implements Tournament {
 		}
 	}
 
+	private final BoardPool boardPool = new BoardPool();
+	private final GameIdGenerator gameIds = new GameIdGenerator();
 	private final List<TournamentListener> tournamentListenerList = new CopyOnWriteArrayList<>();
 	private final MoveListener moveListener = (game, token, column) -> tournamentListenerList
 			.forEach(l -> l.newTokenAt(game, token, column));
@@ -93,22 +122,173 @@ public class DefaultTournament implements Tournament {
 		}
 	};
 
+	/**
+	 * Plays the matches of all matchdays without waiting for a matchday to end:
+	 * each game is started as soon as both of its players have ended their game
+	 * of the previous matchday, so a slow game only holds back the following
+	 * games of its two players. The games are numbered and the states are passed
+	 * to the consumer in the order of the matchdays and matches.
+	 * <p>
+	 * Matchdays of a Swiss season (see {@link #setSwissRounds(int)}) are paired
+	 * by the standing, so these are started when all games of the previous
+	 * matchday have ended.
+	 */
 	@Override
 	public void playSeason(Collection<? extends Player> players, Consumer<GameState> consumer) {
+		gameIds.nextSeason();
 		seasonStarted();
-		newSeason(players).getMatchdays().map(Matchday::getMatches) //
-				.map(this::runMatches).flatMap(identity()) //
-				.forEach(consumer);
+		Semaphore concurrentGames = this.concurrentGames;
+		Map<Player, CompletableFuture<GameState>> lastGames = new IdentityHashMap<>();
+		Queue<CompletableFuture<GameState>> games = new ArrayDeque<>();
+		boolean pairedByStanding = swissRounds > 0;
+		newSeason(players).forEach(matchday -> {
+			while (pairedByStanding && !games.isEmpty()) {
+				consumer.accept(join(games.poll()));
+			}
+			gameIds.nextMatchday();
+			matchday.getMatches().forEach(match -> {
+				GameId gameId = newGameId();
+				while (!games.isEmpty() && games.peek().isDone()) {
+					consumer.accept(join(games.poll()));
+				}
+				concurrentGames.acquireUninterruptibly();
+				CompletableFuture<GameState> game = lastGamesOf(lastGames, match)
+						.thenComposeAsync(v -> playMatch(match, gameId), gameExecutor)
+						.whenComplete((s, e) -> concurrentGames.release());
+				Stream.of(match.getTeam1(), match.getTeam2()).filter(p -> !isCoffeBreak(p))
+						.forEach(p -> lastGames.put(p, game));
+				games.add(game);
+			});
+		});
+		games.forEach(g -> consumer.accept(join(g)));
 		seasonEnded();
 	}
 
-	private Stream<GameState> runMatches(Stream<Match<Player>> matches) {
-		return matches.map(this::newGame).peek(this::gameStarted).map(Game::runGame).peek(this::gameEnded)
-				.map(Game::gameState).parallel();
+	/**
+	 * Plays continuously instead of season by season (see {@link Matchmaking}):
+	 * the players entered are paired as soon as they are free. The listeners are
+	 * informed like for a season lasting until {@link Matchmaking#stop()}, the
+	 * states are passed to the consumer as the games end.
+	 */
+	@Override
+	public Matchmaking startMatchmaking(Consumer<GameState> consumer) {
+		gameIds.nextSeason();
+		gameIds.nextMatchday();
+		standings = null;
+		seasonStarted();
+		return new Matchmaking((team1, team2) -> {
+			GameId gameId = gameIds.nextContinuous();
+			return CompletableFuture.completedFuture(null)
+					.thenComposeAsync(v -> playMatch(new Match<>(team1, team2), gameId), gameExecutor)
+					.thenApply(state -> {
+						consumer.accept(state);
+						return state;
+					});
+		}, concurrentGames, this::seasonEnded);
+	}
+
+	private static CompletableFuture<Void> lastGamesOf(Map<Player, CompletableFuture<GameState>> lastGames,
+			Match<Player> match) {
+		return CompletableFuture.allOf(Stream.of(match.getTeam1(), match.getTeam2()).map(lastGames::get)
+				.filter(Objects::nonNull).toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * Sets the executor the games are run on, e.g. one of {@link GameExecutors}.
+	 */
+	public DefaultTournament setGameExecutor(Executor gameExecutor) {
+		this.gameExecutor = gameExecutor;
+		return this;
+	}
+
+	/**
+	 * Sets how many games may run or wait for their players at the same time,
+	 * further games are scheduled when running ones have ended.
+	 */
+	public DefaultTournament setMaxConcurrentGames(int maxConcurrentGames) {
+		this.concurrentGames = new Semaphore(maxConcurrentGames);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Adjudicator} ending games early whose outcome is decided,
+	 * <code>null</code> (the default) to play all games to their end.
+	 */
+	public DefaultTournament setAdjudicator(Adjudicator adjudicator) {
+		this.adjudicator = adjudicator;
+		return this;
+	}
+
+	/**
+	 * Sets the count of matchdays of a Swiss season (see {@link SwissRound}), e.g.
+	 * {@link SwissRound#roundsFor(int)}, so large leagues don't have to play
+	 * each player against each other one. <code>0</code> (the default) plays a
+	 * double round robin.
+	 */
+	public DefaultTournament setSwissRounds(int swissRounds) {
+		this.swissRounds = swissRounds;
+		return this;
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+		}
+	}
+
+	private CompletableFuture<GameState> playMatch(Match<Player> match, GameId gameId) {
+		Player team1 = match.getTeam1();
+		Player team2 = match.getTeam2();
+		boolean team1IsCoffeBreak = isCoffeBreak(team1);
+		boolean team2IsCoffeBreak = isCoffeBreak(team2);
+		if (team1IsCoffeBreak || team2IsCoffeBreak) {
+			return runGame(new CoffeebreakGame(team1IsCoffeBreak ? team2 : team1, gameId), Runnable::run);
+		}
+		return CompletableFuture.supplyAsync(this::makeBoard, gameExecutor).thenCompose(board -> {
+			try {
+				return runGame(newGame(board, gameId, team1, team2), gameExecutor)
+						.whenComplete((s, e) -> releaseBoard(board));
+			} catch (RuntimeException e) {
+				releaseBoard(board);
+				throw e;
+			}
+		});
+	}
+
+	private DefaultGame newGame(Board board, GameId gameId, Player team1, Player team2) {
+		DefaultGame game = new DefaultGame(moveListener, board, gameId, team1, team2)
+				.recordLatenciesTo(moveLatencies).notifyOn(gameExecutor);
+		return adjudicator == null ? game : game.adjudicateWith(adjudicator);
+	}
+
+	private CompletableFuture<GameState> runGame(Game game, Executor executor) {
+		gameStarted(game);
+		ScoreSheet standings = this.standings;
+		return game.runGameAsync(executor).toCompletableFuture().thenApply(endedGame -> {
+			if (standings != null) {
+				standings.addResult(endedGame);
+			}
+			gameEnded(endedGame);
+			return endedGame.gameState();
+		});
+	}
+
+	private Stream<Matchday<Player>> newSeason(Collection<? extends Player> players) {
+		List<Player> teams = ensureEvenQuantity(players);
+		if (swissRounds > 0) {
+			ScoreSheet standings = new ScoreSheet();
+			this.standings = standings;
+			return new SwissRound<>(teams, swissRounds, p -> standingOf(standings, p)).getMatchdays();
+		}
+		this.standings = null;
+		return new Season<>(teams).getMatchdays();
 	}
 
-	private Season<Player> newSeason(Collection<? extends Player> players) {
-		return new Season<>(ensureEvenQuantity(players));
+	private static double standingOf(ScoreSheet standings, Player player) {
+		Double score = standings.scoreOf(player.getToken());
+		return score == null ? 0 : score;
 	}
 
 	private List<Player> ensureEvenQuantity(Collection<? extends Player> players) {
@@ -122,16 +302,8 @@ public class DefaultTournament implements Tournament {
 		return collection.size() % 2 == 0;
 	}
 
-	private Game newGame(Match<Player> match) {
-		// TODO change gameId to "<season>/<gameNo>"
-		GameId gameId = GameId.random();
-		Player team1 = match.getTeam1();
-		Player team2 = match.getTeam2();
-		boolean team1IsCoffeBreak = isCoffeBreak(team1);
-		boolean team2IsCoffeBreak = isCoffeBreak(team2);
-		return team1IsCoffeBreak || team2IsCoffeBreak //
-				? new CoffeebreakGame(team1IsCoffeBreak ? team2 : team1, gameId) //
-				: new DefaultGame(moveListener, makeBoard(), gameId, team1, team2);
+	private GameId newGameId() {
+		return gameIds.next();
 	}
 
 	private static boolean isCoffeBreak(Player player) {
@@ -139,7 +311,15 @@ public class DefaultTournament implements Tournament {
 	}
 
 	protected Board makeBoard() {
-		return Board.newBoard(boardInfo);
+		return boardPool.acquire(boardInfo);
+	}
+
+	/**
+	 * Called when the game played on the board has ended and all listeners have
+	 * been informed, so the board can be reused.
+	 */
+	protected void releaseBoard(Board board) {
+		boardPool.release(board);
 	}
 
 	protected void gameStarted(Game game) {
@@ -150,16 +330,27 @@ public class DefaultTournament implements Tournament {
 		tournamentListenerList.forEach(l -> l.gameEnded(game));
 	}
 
+	/**
+	 * Returns the latencies of the players in the current (or last) season.
+	 */
+	public MoveLatencies getMoveLatencies() {
+		return moveLatencies;
+	}
+
 	protected void seasonStarted() {
+		moveLatencies = new MoveLatencies();
 		tournamentListenerList.forEach(TournamentListener::seasonStarted);
 	}
 
 	protected void seasonEnded() {
+		MoveLatencies moveLatencies = this.moveLatencies;
+		tournamentListenerList.forEach(l -> l.seasonEnded(moveLatencies));
 		tournamentListenerList.forEach(TournamentListener::seasonEnded);
 	}
 
 	@Override
 	public void addTournamentListener(TournamentListener listener) {
+		gameIds.continueAfterSeason(listener.lastSeasonPlayed());
 		tournamentListenerList.add(listener);
 	}
 
@@ -0,0 +1,66 @@
+package org.ase.fourwins.tournament;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link Executor}s for running games. Games spend most of their time waiting
+ * for the players, so there should be (at least) one thread per game running
+ * and not one per core.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class GameExecutors {
+
+	/**
+	 * Returns an executor starting a virtual thread per game if the JVM supports
+	 * them (Java 21+), otherwise a pool of up to <code>maxThreads</code> daemon
+	 * threads.
+	 */
+	public static Executor newGameExecutor(int maxThreads) {
+		ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+		return virtualThreads == null ? newBoundedExecutor(maxThreads) : virtualThreads;
+	}
+
+	/**
+	 * Returns <code>null</code> if virtual threads are not supported. Looked up
+	 * reflectively since we are compiled for older JVMs.
+	 */
+	static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Pool of up to <code>maxThreads</code> daemon threads, idle threads are
+	 * terminated.
+	 */
+	public static Executor newBoundedExecutor(int maxThreads) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, SECONDS,
+				new LinkedBlockingQueue<>(), daemonThreads("game-"));
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
@@ -0,0 +1,297 @@
+package org.ase.fourwins.tournament;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static java.util.Comparator.comparingDouble;
+import static java.util.stream.Stream.concat;
+
+import java.lang.System.Logger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.game.Player;
+import org.ase.fourwins.season.Match;
+
+/**
+ * Plays games continuously instead of season by season: players entered wait
+ * until they are paired and enter again as soon as their game has ended, so no
+ * player waits for games of other players to end.
+ * <p>
+ * A player getting free is paired with the waiting player having the closest
+ * (Elo) rating, except with its last opponent: rematches are only played if
+ * there is no other player that could get free (e.g. if only two players are
+ * entered). Players left waiting because of the maximum of concurrent games
+ * are paired as games end, the ones waiting longest first.
+ * <p>
+ * This class is thread-safe.
+ */
+public class Matchmaking {
+
+	private static final Logger log = System.getLogger(Matchmaking.class.getName());
+
+	static final double INITIAL_RATING = 1500;
+	private static final double K = 32;
+
+	private static final class Waiting {
+
+		private final Player player;
+		private final double rating;
+		private final long arrival;
+
+		private Waiting(Player player, double rating, long arrival) {
+			this.player = player;
+			this.rating = rating;
+			this.arrival = arrival;
+		}
+
+	}
+
+	private static final Comparator<Waiting> byRating = comparingDouble((Waiting w) -> w.rating)
+			.thenComparingLong(w -> w.arrival);
+
+	private final BiFunction<Player, Player, CompletableFuture<GameState>> games;
+	private final Semaphore concurrentGames;
+	private final Runnable stopped;
+
+	/** the players entered that have not left, waiting or playing */
+	private final Set<Player> entered = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<Player, Waiting> waiting = new IdentityHashMap<>();
+	private final TreeSet<Waiting> waitingByRating = new TreeSet<>(byRating);
+	private final Queue<Waiting> waitingByArrival = new ArrayDeque<>();
+	private final Map<String, Double> ratings = new HashMap<>();
+	private final Map<String, String> lastOpponents = new HashMap<>();
+	private long arrivals;
+	private int running;
+	private boolean stopping;
+
+	/**
+	 * @param games          starts the game of the passed players (the first one
+	 *                       moving first) and returns its end state
+	 * @param concurrentGames permits for each game running
+	 * @param stopped        called when all games have ended after
+	 *                       {@link #stop()}
+	 */
+	Matchmaking(BiFunction<Player, Player, CompletableFuture<GameState>> games, Semaphore concurrentGames,
+			Runnable stopped) {
+		this.games = games;
+		this.concurrentGames = concurrentGames;
+		this.stopped = stopped;
+	}
+
+	/**
+	 * Enters the player, it is paired as soon as there is an opponent and plays
+	 * until it {@link #leave(Player)}s.
+	 */
+	public void enter(Player player) {
+		List<Match<Player>> matches;
+		synchronized (this) {
+			if (stopping || !entered.add(player)) {
+				return;
+			}
+			matches = pairWaiting(List.of(addWaiting(player)));
+		}
+		matches.forEach(this::start);
+	}
+
+	/**
+	 * Removes the player, if it is playing it ends its game but is not paired
+	 * again.
+	 */
+	public void leave(Player player) {
+		List<Match<Player>> matches;
+		synchronized (this) {
+			if (!entered.remove(player)) {
+				return;
+			}
+			Waiting w = waiting.get(player);
+			if (w != null) {
+				removeWaiting(w);
+			}
+			matches = pairWaiting(List.of());
+		}
+		matches.forEach(this::start);
+	}
+
+	public synchronized double ratingOf(String token) {
+		return ratings.getOrDefault(token, INITIAL_RATING);
+	}
+
+	/**
+	 * Pairs no more players and waits for the running games to end.
+	 */
+	public void stop() throws InterruptedException {
+		synchronized (this) {
+			stopping = true;
+			waiting.clear();
+			waitingByRating.clear();
+			waitingByArrival.clear();
+			while (running > 0) {
+				wait();
+			}
+		}
+		stopped.run();
+	}
+
+	private Waiting addWaiting(Player player) {
+		Waiting w = new Waiting(player, ratingOf(player.getToken()), arrivals++);
+		waiting.put(player, w);
+		waitingByRating.add(w);
+		waitingByArrival.add(w);
+		return w;
+	}
+
+	/**
+	 * Pairs the players just got free, then the ones still waiting (the ones
+	 * waiting longest first) as long as there are permits for their games.
+	 * Rematches are only paired if all players entered are waiting.
+	 */
+	private List<Match<Player>> pairWaiting(List<Waiting> free) {
+		List<Match<Player>> matches = new ArrayList<>();
+		if (pair(concat(free.stream(), waitingByArrival.stream()).iterator(), false, matches)
+				&& waiting.size() == entered.size()) {
+			pair(waitingByArrival.iterator(), true, matches);
+		}
+		waitingByArrival.removeIf(w -> waiting.get(w.player) != w);
+		return matches;
+	}
+
+	/**
+	 * @return <code>false</code> if there was an opponent but no permit
+	 */
+	private boolean pair(Iterator<Waiting> candidates, boolean rematches, List<Match<Player>> matches) {
+		while (candidates.hasNext()) {
+			Waiting w = candidates.next();
+			if (waiting.get(w.player) == w) {
+				Waiting opponent = opponentOf(w, rematches);
+				if (opponent != null) {
+					if (!concurrentGames.tryAcquire()) {
+						return false;
+					}
+					removeWaiting(w);
+					removeWaiting(opponent);
+					running++;
+					matches.add(new Match<>(w.player, opponent.player));
+				}
+			}
+		}
+		return true;
+	}
+
+	private void removeWaiting(Waiting w) {
+		waiting.remove(w.player);
+		waitingByRating.remove(w);
+	}
+
+	/**
+	 * Returns the waiting player having the closest rating (that is no rematch
+	 * unless <code>rematches</code>), <code>null</code> if there is none.
+	 */
+	private Waiting opponentOf(Waiting w, boolean rematches) {
+		Waiting lower = waitingByRating.lower(w);
+		Waiting higher = waitingByRating.higher(w);
+		while (!rematches && lower != null && isRematch(w, lower)) {
+			lower = waitingByRating.lower(lower);
+		}
+		while (!rematches && higher != null && isRematch(w, higher)) {
+			higher = waitingByRating.higher(higher);
+		}
+		return closer(w, lower, higher);
+	}
+
+	private static Waiting closer(Waiting w, Waiting lower, Waiting higher) {
+		if (lower == null || higher == null) {
+			return lower == null ? higher : lower;
+		}
+		return w.rating - lower.rating <= higher.rating - w.rating ? lower : higher;
+	}
+
+	private boolean isRematch(Waiting w, Waiting other) {
+		String token = w.player.getToken();
+		String otherToken = other.player.getToken();
+		return otherToken.equals(lastOpponents.get(token)) || token.equals(lastOpponents.get(otherToken));
+	}
+
+	private void start(Match<Player> match) {
+		CompletableFuture<GameState> game;
+		try {
+			game = games.apply(match.getTeam1(), match.getTeam2());
+		} catch (RuntimeException e) {
+			game = CompletableFuture.failedFuture(e);
+		}
+		game.whenComplete((state, e) -> {
+			if (e != null) {
+				log.log(WARNING, "Game of " + match.getTeam1().getToken() + " and " + match.getTeam2().getToken()
+						+ " failed", e);
+			}
+			gameEnded(match, state);
+		});
+	}
+
+	private void gameEnded(Match<Player> match, GameState state) {
+		List<Match<Player>> matches;
+		synchronized (this) {
+			concurrentGames.release();
+			running--;
+			if (state != null) {
+				rate(match, state);
+			}
+			String token1 = match.getTeam1().getToken();
+			String token2 = match.getTeam2().getToken();
+			lastOpponents.put(token1, token2);
+			lastOpponents.put(token2, token1);
+			if (stopping) {
+				notifyAll();
+				return;
+			}
+			List<Waiting> free = new ArrayList<>(2);
+			for (Player player : List.of(match.getTeam1(), match.getTeam2())) {
+				if (entered.contains(player)) {
+					free.add(addWaiting(player));
+				}
+			}
+			matches = pairWaiting(free);
+		}
+		matches.forEach(this::start);
+	}
+
+	private void rate(Match<Player> match, GameState state) {
+		String token1 = match.getTeam1().getToken();
+		String token2 = match.getTeam2().getToken();
+		double rating1 = ratingOf(token1);
+		double rating2 = ratingOf(token2);
+		double score1 = scoreOf(token1, state);
+		double expected1 = 1 / (1 + Math.pow(10, (rating2 - rating1) / 400));
+		ratings.put(token1, rating1 + K * (score1 - expected1));
+		ratings.put(token2, rating2 - K * (score1 - expected1));
+	}
+
+	/**
+	 * Returns the points the player got: 1 for a win, 0.5 for a draw, 0 for a
+	 * loss (of two player games).
+	 */
+	private static double scoreOf(String token, GameState state) {
+		boolean isToken = token.equals(state.getToken());
+		switch (state.getScore()) {
+		case WIN:
+			return isToken ? 1 : 0;
+		case LOSE:
+			return isToken ? 0 : 1;
+		default:
+			return 0.5;
+		}
+	}
+
+}
@@ -10,14 +10,49 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
+import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.Player;
+
 public class ScoreSheet {
 
+	private static final double FULL_POINT = 1;
+	private static final double ZERO = 0.0;
+	private static final double HALF_POINT = 0.5;
+
 	private final Map<String, Double> data = new ConcurrentHashMap<>();
 
 	public void increaseScore(String player, double add) {
 		data.merge(player, add, Double::sum);
 	}
 
+	/**
+	 * Adds the points of the ended game: a full point for the winner (and for the
+	 * opponents of a loser), half a point for each player of a draw, none for the
+	 * others.
+	 */
+	public void addResult(Game game) {
+		Object lastToken = game.gameState().getToken();
+		switch (game.gameState().getScore()) {
+		case WIN:
+			addPointForPlayer(game.getPlayerForToken(lastToken), FULL_POINT);
+			game.getOpponentsForToken(lastToken).forEach(p -> addPointForPlayer(p, ZERO));
+			break;
+		case LOSE:
+			addPointForPlayer(game.getPlayerForToken(lastToken), ZERO);
+			game.getOpponentsForToken(lastToken).forEach(p -> addPointForPlayer(p, FULL_POINT));
+			break;
+		case DRAW:
+			game.getPlayers().stream().forEach(p -> addPointForPlayer(p, HALF_POINT));
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void addPointForPlayer(Player player, double value) {
+		increaseScore(player.getToken(), value);
+	}
+
 	public Double scoreOf(String name) {
 		return data.get(name);
 	}
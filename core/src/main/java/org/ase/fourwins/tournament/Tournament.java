@@ -15,4 +15,10 @@ public interface Tournament {
 
 	void playSeason(Collection<? extends Player> players, Consumer<GameState> consumer);
 
+	/**
+	 * Starts playing continuously, the players entered into the returned
+	 * {@link Matchmaking} play until they leave.
+	 */
+	Matchmaking startMatchmaking(Consumer<GameState> consumer);
+
 }
\ No newline at end of file
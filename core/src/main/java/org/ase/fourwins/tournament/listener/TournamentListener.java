@@ -1,6 +1,7 @@
 package org.ase.fourwins.tournament.listener;
 
 import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.MoveLatencies;
 
 public interface TournamentListener {
 
@@ -15,8 +16,24 @@ public interface TournamentListener {
 
 	default void seasonEnded() {
 	}
+
+	/**
+	 * Called right before {@link #seasonEnded()} with the latencies of the players
+	 * during the season.
+	 */
+	default void seasonEnded(MoveLatencies moveLatencies) {
+	}
 	
 	default void newTokenAt(Game game, String token, int column) {
 	}
 
+	/**
+	 * Returns the last season of the games this listener has kept (e.g. in
+	 * earlier runs), <code>0</code> if none. Tournaments continue after the last
+	 * season of their listeners, so ids of games kept are not used again.
+	 */
+	default int lastSeasonPlayed() {
+		return 0;
+	}
+
 }
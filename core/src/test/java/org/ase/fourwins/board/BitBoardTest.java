@@ -0,0 +1,52 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.ase.fourwins.board.Board.PlayableBoard;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class BitBoardTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	@Example
+	void boardsUpTo64BitsAreBitBoards() {
+		assertThat(BitBoard.fits(BoardInfo.sevenColsSixRows), is(true));
+		assertThat(BitBoard.fits(BoardInfo.builder().columns(8).rows(7).build()), is(true));
+		assertThat(BitBoard.fits(BoardInfo.builder().columns(8).rows(8).build()), is(false));
+	}
+
+	@Property
+	void bitBoardBehavesLikePlayableBoard(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = -1, max = 8) Integer> moves) {
+		Board bitBoard = new BitBoard(boardInfo);
+		Board playableBoard = new PlayableBoard(boardInfo);
+		String[] tokens = { "X", "O" };
+		for (int i = 0; i < moves.size(); i++) {
+			bitBoard = bitBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			playableBoard = playableBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			assertThat(bitBoard.gameState(), is(playableBoard.gameState()));
+		}
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 8), integers().between(1, 7), integers().between(1, 6))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build())
+				.filter(BitBoard::fits);
+	}
+
+}
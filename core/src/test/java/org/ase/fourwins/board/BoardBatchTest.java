@@ -0,0 +1,90 @@
+package org.ase.fourwins.board;
+
+import static org.ase.fourwins.board.Board.Score.DRAW;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.ase.fourwins.board.Board.Score;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+class BoardBatchTest {
+
+	private static final String[] tokens = { "X", "O" };
+
+	/**
+	 * Games on the small boards often end early because no line can be connected
+	 * anymore.
+	 */
+	@Property
+	void eachBoardOfTheBatchBehavesLikeABoard(@ForAll("boardInfos") BoardInfo boardInfo,
+			@ForAll @Size(10) List<@Size(max = 60) List<@IntRange(min = -1, max = 7) Integer>> games) {
+		BoardBatch sut = new BoardBatch(boardInfo, games.size());
+		Board[] boards = games.stream().map(g -> Board.newBoard(boardInfo)).toArray(Board[]::new);
+		Score[] results = new Score[games.size()];
+		int maxMoves = games.stream().mapToInt(List::size).max().orElse(0);
+		for (int move = 0; move < maxMoves; move++) {
+			int[] columns = new int[games.size()];
+			for (int i = 0; i < columns.length; i++) {
+				List<Integer> game = games.get(i);
+				columns[i] = move < game.size() ? game.get(move) : 0;
+				if (boards[i].gameState().getScore() == IN_GAME) {
+					boards[i] = boards[i].insertToken(moveToColumn(columns[i]), tokens[move % 2]);
+				}
+			}
+			sut.insertTokens(columns, results);
+			for (int i = 0; i < columns.length; i++) {
+				Board.GameState gameState = boards[i].gameState();
+				assertThat(results[i], is(gameState.getScore()));
+				if (gameState.getScore() != IN_GAME && gameState.getScore() != DRAW) {
+					assertThat(tokens[sut.lastSlot(i)], is(gameState.getToken()));
+				}
+			}
+		}
+	}
+
+	@Provide
+	Arbitrary<BoardInfo> boardInfos() {
+		return Arbitraries.of(BoardInfo.sevenColsSixRows, BoardInfo.builder().columns(4).rows(4).build(),
+				BoardInfo.builder().columns(5).rows(3).build());
+	}
+
+	@Example
+	void boardsAreDrawsAsSoonAsNoLineCanBeConnected() {
+		BoardBatch sut = new BoardBatch(BoardInfo.builder().columns(5).rows(1).build(), 1);
+		Score[] results = new Score[1];
+		for (int column : new int[] { 0, 2 }) {
+			assertThat(sut.insertTokens(new int[] { column }, results)[0], is(IN_GAME));
+		}
+		assertThat(sut.insertTokens(new int[] { 4 }, results)[0], is(DRAW));
+	}
+
+	@Example
+	void boardsCanBeReset() {
+		BoardBatch sut = new BoardBatch(BoardInfo.builder().columns(1).rows(1).build(), 2);
+		Score[] results = sut.insertTokens(new int[] { 0, 1 }, new Score[2]);
+		assertThat(List.of(results), is(List.of(DRAW, Score.LOSE)));
+		sut.reset(1);
+		assertThat(sut.score(0), is(DRAW));
+		assertThat(sut.score(1), is(IN_GAME));
+	}
+
+	@Example
+	void boardsMustFitIntoALong() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new BoardBatch(BoardInfo.builder().columns(8).rows(8).build(), 1));
+	}
+
+}
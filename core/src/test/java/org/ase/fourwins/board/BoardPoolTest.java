@@ -0,0 +1,99 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.board.BoardMatcher.isStillInGame;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class BoardPoolTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	private final BoardPool sut = new BoardPool();
+
+	@Example
+	void releasedBoardsAreReusedForTheSameBoardInfo() {
+		Board board = sut.acquire(BoardInfo.sevenColsSixRows);
+		sut.release(board);
+		assertThat(sut.acquire(BoardInfo.builder().columns(8).rows(7).build()), is(not(sameInstance(board))));
+		assertThat(sut.acquire(BoardInfo.sevenColsSixRows), is(sameInstance(board)));
+		assertThat(sut.acquire(BoardInfo.sevenColsSixRows), is(not(sameInstance(board))));
+	}
+
+	@Example
+	void boardsReleasedTwiceAreReusedOnce() {
+		Board board = sut.acquire(BoardInfo.sevenColsSixRows);
+		sut.release(board);
+		sut.release(board);
+		assertThat(sut.acquire(BoardInfo.sevenColsSixRows), is(sameInstance(board)));
+		assertThat(sut.acquire(BoardInfo.sevenColsSixRows), is(not(sameInstance(board))));
+	}
+
+	@Example
+	void boardsNotAcquiredAreIgnored() {
+		Board board = Board.newBoard(BoardInfo.sevenColsSixRows);
+		sut.release(board);
+		assertThat(sut.acquire(BoardInfo.sevenColsSixRows), is(not(sameInstance(board))));
+	}
+
+	@Example
+	void releasedSparseBoardIsEmpty() {
+		BoardInfo boardInfo = BoardInfo.builder().columns(1000).rows(1000).build();
+		Board board = sut.acquire(boardInfo);
+		for (int i = 0; i < 4; i++) {
+			board = board.insertToken(moveToColumn(0), "X");
+		}
+		assertThat(board.gameState().getScore(), is(WIN));
+		sut.release(board);
+		board = sut.acquire(boardInfo);
+		for (int i = 0; i < 3; i++) {
+			board = board.insertToken(moveToColumn(0), "O");
+		}
+		assertThat(board, isStillInGame());
+	}
+
+	@Property
+	void reusedBoardBehavesLikeNewBoard(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = -1, max = 70) Integer> previousMoves,
+			@ForAll List<@IntRange(min = -1, max = 70) Integer> moves) {
+		Board board = playMoves(sut.acquire(boardInfo), previousMoves, "A", "B");
+		sut.release(board);
+		Board reusedBoard = sut.acquire(boardInfo);
+		Board newBoard = Board.newBoard(boardInfo);
+		String[] tokens = { "X", "O" };
+		for (int i = 0; i < moves.size(); i++) {
+			reusedBoard = reusedBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			newBoard = newBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			assertThat(reusedBoard.gameState(), is(newBoard.gameState()));
+		}
+	}
+
+	private static Board playMoves(Board board, List<Integer> moves, String... tokens) {
+		for (int i = 0; i < moves.size(); i++) {
+			board = board.insertToken(moveToColumn(moves.get(i)), tokens[i % tokens.length]);
+		}
+		return board;
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 70), integers().between(1, 10), integers().between(1, 6))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build());
+	}
+
+}
@@ -0,0 +1,60 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Coordinate.xy;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class BoardSnapshotTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	@Property
+	void queriesMatchTheMovesPlayed(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = 0, max = 69) Integer> moves) {
+		Board board = Board.newBoard(boardInfo);
+		String[][] cells = new String[boardInfo.getColumns()][boardInfo.getRows()];
+		int[] heights = new int[boardInfo.getColumns()];
+		String[] tokens = { "X", "O" };
+		for (int i = 0; i < moves.size() && board.gameState().getScore() == IN_GAME; i++) {
+			int column = moves.get(i) % boardInfo.getColumns();
+			if (heights[column] < boardInfo.getRows()) {
+				board = board.insertToken(moveToColumn(column), tokens[i % 2]);
+				cells[column][boardInfo.getRows() - 1 - heights[column]++] = tokens[i % 2];
+			}
+		}
+		BoardSnapshot snapshot = board.snapshot();
+		assertThat(snapshot.gameState(), is(board.gameState()));
+		assertThat(snapshot.legalColumns(), is(board.legalColumns()));
+		for (int x = 0; x < boardInfo.getColumns(); x++) {
+			assertThat(board.height(x), is(heights[x]));
+			assertThat(snapshot.height(x), is(heights[x]));
+			assertThat(board.isLegalColumn(x),
+					is(board.gameState().getScore() == IN_GAME && heights[x] < boardInfo.getRows()));
+			assertThat(board.nextLegalColumn(x), is(board.legalColumns().nextSetBit(x)));
+			for (int y = 0; y < boardInfo.getRows(); y++) {
+				assertThat(board.tokenAt(xy(x, y)).orElse(null), is(cells[x][y]));
+				assertThat(snapshot.tokenAt(xy(x, y)).orElse(null), is(cells[x][y]));
+			}
+		}
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 70), integers().between(1, 10), integers().between(2, 6))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build());
+	}
+
+}
@@ -1,17 +1,21 @@
 package org.ase.fourwins.board;
 
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
 import static org.ase.fourwins.board.BoardMatcher.isDraw;
 import static org.ase.fourwins.board.BoardMatcher.isGameError;
 import static org.ase.fourwins.board.BoardMatcher.isStillInGame;
 import static org.ase.fourwins.board.BoardMatcher.winnerIs;
 import static org.ase.fourwins.board.BoardTest.BoardBuilder.boardOfSize;
+import static org.ase.fourwins.board.Coordinate.xy;
 import static org.ase.fourwins.board.Move.moveToColumn;
 import static org.ase.fourwins.util.CollectionUtil.reverse;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,11 +71,11 @@ class BoardTest {
 	@Test
 	void boardIsFull_but_no_4_in_a_row_1x5() {
 		Board board = a(boardOfSize(1, 5).filled( //
-				"X", //
 				"O", //
 				"X", //
 				"X", //
-				"X" //
+				"X", //
+				"O" //
 		));
 		assertThat(board, isDraw());
 	}
@@ -157,6 +161,71 @@ class BoardTest {
 		assertThat(board, isStillInGame());
 	}
 	
+	@Test
+	void player_X_wins_on_board_too_large_for_a_bitboard() {
+		Board board = a(boardOfSize(9, 8).filled( //
+				"O X              ", //
+				"O O X            ", //
+				"X O O X          " //
+		));
+		assertThat(board.insertToken(moveToColumn('E'), "X"), isStillInGame());
+		assertThat(board.insertToken(moveToColumn('A'), "X"), winnerIs("X"));
+	}
+
+	@Test
+	void tokens_inserted_by_slot_are_reported_by_their_token() {
+		Tokens tokens = Tokens.of("X", "O");
+		Board board = a(boardOfSize(4, 2));
+		for (int column = 0; column < 4; column++) {
+			board = board.insertToken(moveToColumn(column), tokens, 0);
+		}
+		assertThat(board, winnerIs("X"));
+		assertThat(a(boardOfSize(4, 2)).insertToken(moveToColumn('E'), tokens, 1),
+				isGameError("ILLEGAL_COLUMN_ANNOUNCED").withToken("O"));
+	}
+
+	@Test
+	void heights_legal_columns_and_tokens_can_be_queried() {
+		Board board = a(boardOfSize(3, 2).filled( //
+				"O    ", //
+				"X X  " //
+		));
+		assertThat(board.height(0), is(2));
+		assertThat(board.height(1), is(1));
+		assertThat(board.height(2), is(0));
+		assertThat(board.legalColumns(), is(BitSet.valueOf(new long[] { 0b110 })));
+		assertThat(board.tokenAt(xy(0, 0)), is(Optional.of("O")));
+		assertThat(board.tokenAt(xy(1, 1)), is(Optional.of("X")));
+		assertThat(board.tokenAt(xy(1, 0)), is(Optional.empty()));
+		assertThat(board.tokenAt(xy(3, 1)), is(Optional.empty()));
+	}
+
+	@Test
+	void snapshot_does_not_change_when_game_goes_on() {
+		Board board = a(boardOfSize(4, 1).filled("X X X  "));
+		BoardSnapshot snapshot = board.snapshot();
+		board = board.insertToken(moveToColumn('D'), "X");
+		assertThat(board, winnerIs("X"));
+		assertThat(board.legalColumns().isEmpty(), is(true));
+		assertThat(board.tokenAt(xy(3, 0)), is(Optional.of("X")));
+		assertThat(snapshot.gameState().getScore(), is(IN_GAME));
+		assertThat(snapshot.legalColumns(), is(BitSet.valueOf(new long[] { 0b1000 })));
+		assertThat(snapshot.tokenAt(xy(3, 0)), is(Optional.empty()));
+		assertThat(board.snapshot().tokenAt(xy(3, 0)), is(Optional.of("X")));
+	}
+
+	@Test
+	void draw_as_soon_as_no_line_can_be_connected() {
+		Board board = a(boardOfSize(5, 1).filled("X O      "));
+		assertThat(board, isStillInGame());
+		board = board.insertToken(moveToColumn('E'), "X");
+		assertThat(board, isDraw().withReason("NO_LINE_POSSIBLE"));
+		assertThat(board.legalColumns().isEmpty(), is(true));
+		assertThat(board.insertToken(moveToColumn('C'), "X"), isGameError("GAME_ENDED").withToken("X"));
+		Board ended = a(boardOfSize(5, 1).filled("X O     X"));
+		assertThat(ended.insertToken(moveToColumn('A'), "O"), isGameError("GAME_ENDED").withToken("O"));
+	}
+
 	/**
 	 * This test does not describe a functional requirement but some NFA behavior we would wish to fulfill. 
 	 */
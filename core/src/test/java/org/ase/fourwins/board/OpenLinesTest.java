@@ -0,0 +1,91 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.Board.Score.DRAW;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.ase.fourwins.board.Coordinate.xy;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.Board.PlayableBoard;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class OpenLinesTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	private static final int[][] directions = { { 0, 1 }, { 1, 0 }, { 1, -1 }, { 1, 1 } };
+
+	@Example
+	void boardsWithoutLinesAndSparseBoardsAreNotTracked() {
+		assertThat(OpenLines.isTracked(BoardInfo.sevenColsSixRows), is(true));
+		assertThat(OpenLines.isTracked(BoardInfo.builder().columns(2).rows(2).build()), is(false));
+		assertThat(OpenLines.isTracked(BoardInfo.builder().columns(1000).rows(1000).build()), is(false));
+	}
+
+	@Property
+	void drawIsDetectedAsSoonAsNoLineIsLeft(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = 0, max = 7) Integer> moves) {
+		Board board = new PlayableBoard(boardInfo);
+		String[] tokens = { "X", "O", "Z" };
+		for (int i = 0; i < moves.size() && board.gameState().getScore() == IN_GAME; i++) {
+			if (board.isLegalColumn(moves.get(i))) {
+				board = board.insertToken(moveToColumn(moves.get(i)), tokens[i % tokens.length]);
+				GameState state = board.gameState();
+				if (state.getScore() == IN_GAME && OpenLines.isTracked(boardInfo)) {
+					assertThat(anyLineLeft(board), is(true));
+				} else if (state.getScore() == DRAW && "NO_LINE_POSSIBLE".equals(state.getReason())) {
+					assertThat(anyLineLeft(board), is(false));
+				}
+			}
+		}
+	}
+
+	private static boolean anyLineLeft(Board board) {
+		BoardInfo boardInfo = board.boardInfo();
+		int toConnect = boardInfo.getToConnect();
+		for (int x = 0; x < boardInfo.getColumns(); x++) {
+			for (int y = 0; y < boardInfo.getRows(); y++) {
+				for (int[] direction : directions) {
+					int endX = x + (toConnect - 1) * direction[0];
+					int endY = y + (toConnect - 1) * direction[1];
+					if (isCell(boardInfo, endX, endY)) {
+						Set<Object> tokens = new HashSet<>();
+						for (int i = 0; i < toConnect; i++) {
+							board.tokenAt(xy(x + i * direction[0], y + i * direction[1])).ifPresent(tokens::add);
+						}
+						if (tokens.size() <= 1) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isCell(BoardInfo boardInfo, int x, int y) {
+		return x >= 0 && x < boardInfo.getColumns() && y >= 0 && y < boardInfo.getRows();
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 8), integers().between(1, 8), integers().between(1, 5))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build());
+	}
+
+}
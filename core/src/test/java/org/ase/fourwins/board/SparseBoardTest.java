@@ -0,0 +1,64 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.BoardMatcher.isStillInGame;
+import static org.ase.fourwins.board.BoardMatcher.winnerIs;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.ase.fourwins.board.Board.PlayableBoard;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class SparseBoardTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	@Example
+	void hugeBoardsAreSparseBoards() {
+		assertThat(SparseBoard.isSparse(BoardInfo.builder().columns(1000).rows(1000).build()), is(true));
+		assertThat(SparseBoard.isSparse(BoardInfo.builder().columns(100).rows(100).build()), is(false));
+	}
+
+	@Example
+	void connect6OnA1000x1000Board() {
+		Board board = Board.newBoard(BoardInfo.builder().columns(1000).rows(1000).toConnect(6).build());
+		for (int column = 500; column < 505; column++) {
+			board = board.insertToken(moveToColumn(column), "X");
+			board = board.insertToken(moveToColumn(column), "O");
+		}
+		assertThat(board, isStillInGame());
+		board = board.insertToken(moveToColumn(999), "O");
+		assertThat(board.insertToken(moveToColumn(505), "X"), winnerIs("X"));
+	}
+
+	@Property
+	void sparseBoardBehavesLikePlayableBoard(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = -1, max = 10) Integer> moves) {
+		Board sparseBoard = new SparseBoard(boardInfo);
+		Board playableBoard = new PlayableBoard(boardInfo);
+		String[] tokens = { "X", "O" };
+		for (int i = 0; i < moves.size(); i++) {
+			sparseBoard = sparseBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			playableBoard = playableBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			assertThat(sparseBoard.gameState(), is(playableBoard.gameState()));
+		}
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 10), integers().between(1, 40), integers().between(1, 6))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build());
+	}
+
+}
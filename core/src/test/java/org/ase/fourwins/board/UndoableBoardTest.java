@@ -0,0 +1,85 @@
+package org.ase.fourwins.board;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+class UndoableBoardTest {
+
+	private final UndoableBoard sut = new UndoableBoard(BoardInfo.sevenColsSixRows);
+
+	@Property
+	void removingAllInsertedTokensRestoresTheHash(@ForAll List<@IntRange(min = 0, max = 6) Integer> columns) {
+		long emptyHash = sut.hash();
+		int slot = 0;
+		for (int column : columns) {
+			if (sut.canInsert(column)) {
+				sut.insertToken(column, slot);
+				slot = 1 - slot;
+			}
+		}
+		for (int column = 0; column < 7; column++) {
+			while (sut.height(column) > 0) {
+				sut.removeTopToken(column);
+			}
+		}
+		assertThat(sut.hash(), is(emptyHash));
+		assertThat(sut.tokens(), is(0));
+	}
+
+	@Example
+	void sameHashForSamePositionIndependentOfMoveOrder() {
+		sut.insertToken(0, 0);
+		sut.insertToken(1, 1);
+		sut.insertToken(2, 0);
+		long hash = sut.hash();
+
+		UndoableBoard other = new UndoableBoard(BoardInfo.sevenColsSixRows);
+		other.insertToken(2, 0);
+		other.insertToken(1, 1);
+		other.insertToken(0, 0);
+		assertThat(other.hash(), is(hash));
+	}
+
+	@Example
+	void mirroredPositionsHaveSameCanonicalHash() {
+		sut.insertToken(0, 0);
+		sut.insertToken(1, 1);
+		UndoableBoard mirrored = new UndoableBoard(BoardInfo.sevenColsSixRows);
+		mirrored.insertToken(6, 0);
+		mirrored.insertToken(5, 1);
+		assertThat(mirrored.hash(), is(not(sut.hash())));
+		assertThat(mirrored.canonicalHash(), is(sut.canonicalHash()));
+	}
+
+	@Example
+	void insertReportsConnectedLines() {
+		assertThat(sut.insertToken(0, 0), is(false));
+		assertThat(sut.insertToken(1, 0), is(false));
+		assertThat(sut.insertToken(2, 0), is(false));
+		assertThat(sut.insertToken(3, 1), is(false));
+		sut.removeTopToken(3);
+		assertThat(sut.insertToken(3, 0), is(true));
+		assertThat(sut.slotAt(3, 5), is(0));
+		assertThat(sut.slotAt(3, 4), is(-1));
+	}
+
+	@Example
+	void cannotInsertIntoFullColumn() {
+		for (int i = 0; i < 6; i++) {
+			sut.insertToken(0, i % 2);
+		}
+		assertThat(sut.canInsert(0), is(false));
+		assertThrows(IllegalArgumentException.class, () -> sut.insertToken(0, 0));
+		assertThrows(IllegalArgumentException.class, () -> sut.removeTopToken(1));
+	}
+
+}
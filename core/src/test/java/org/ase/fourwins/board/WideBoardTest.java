@@ -0,0 +1,63 @@
+package org.ase.fourwins.board;
+
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.board.BoardMatcher.isStillInGame;
+import static org.ase.fourwins.board.BoardMatcher.winnerIs;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.ase.fourwins.board.Board.PlayableBoard;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+class WideBoardTest {
+
+	private static final String BOARD_INFOS = "boardInfos";
+
+	@Example
+	void boardsWithManyColumnsAreWideBoards() {
+		assertThat(WideBoard.isWide(BoardInfo.builder().columns(200).rows(20).build()), is(true));
+		assertThat(WideBoard.isWide(BoardInfo.sevenColsSixRows), is(false));
+	}
+
+	@Example
+	void lineCrossingWordBoundaries() {
+		Board board = Board.newBoard(BoardInfo.builder().columns(300).rows(2).toConnect(130).build());
+		for (int column = 0; column < 129; column++) {
+			board = board.insertToken(moveToColumn(column), "X");
+			board = board.insertToken(moveToColumn(299 - column), "O");
+		}
+		assertThat(board, isStillInGame());
+		assertThat(board.insertToken(moveToColumn(129), "X"), winnerIs("X"));
+	}
+
+	@Property
+	void wideBoardBehavesLikePlayableBoard(@ForAll(BOARD_INFOS) BoardInfo boardInfo,
+			@ForAll List<@IntRange(min = -1, max = 10) Integer> moves) {
+		Board wideBoard = new WideBoard(boardInfo);
+		Board playableBoard = new PlayableBoard(boardInfo);
+		String[] tokens = { "X", "O" };
+		for (int i = 0; i < moves.size(); i++) {
+			wideBoard = wideBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			playableBoard = playableBoard.insertToken(moveToColumn(moves.get(i)), tokens[i % 2]);
+			assertThat(wideBoard.gameState(), is(playableBoard.gameState()));
+		}
+	}
+
+	@Provide(BOARD_INFOS)
+	Arbitrary<BoardInfo> boardInfos() {
+		return Combinators.combine(integers().between(1, 10), integers().between(1, 70), integers().between(1, 6))
+				.as((columns, rows, toConnect) -> BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect)
+						.build());
+	}
+
+}
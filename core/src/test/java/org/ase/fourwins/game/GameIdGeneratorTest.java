@@ -0,0 +1,89 @@
+package org.ase.fourwins.game;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.ase.fourwins.game.Game.GameId;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+class GameIdGeneratorTest {
+
+	@Example
+	void idsAreNumberedBySeasonMatchdayAndGame() {
+		GameIdGenerator sut = new GameIdGenerator();
+		sut.nextSeason();
+		sut.nextMatchday();
+		assertThat(sut.next(), is(new GameId("1/1/1")));
+		assertThat(sut.next(), is(new GameId("1/1/2")));
+		sut.nextMatchday();
+		assertThat(sut.next(), is(new GameId("1/2/1")));
+		sut.nextSeason();
+		sut.nextMatchday();
+		assertThat(sut.next(), is(new GameId("2/1/1")));
+	}
+
+	@Example
+	void continuousIdsStartTheNextMatchdayWhenItIsFull() {
+		GameIdGenerator sut = new GameIdGenerator();
+		sut.nextSeason();
+		sut.nextMatchday();
+		GameId last = null;
+		for (int i = 0; i < 0xFFFF; i++) {
+			last = sut.nextContinuous();
+		}
+		assertThat(last, is(new GameId("1/1/65535")));
+		assertThat(sut.nextContinuous(), is(new GameId("1/2/1")));
+		assertThat(sut.nextContinuous(), is(new GameId("1/2/2")));
+	}
+
+	@Example
+	void matchdayIsNotUsedUpIfItHasTooManyGames() {
+		GameIdGenerator sut = new GameIdGenerator();
+		sut.nextSeason();
+		sut.nextMatchday();
+		for (int i = 0; i < 0xFFFF; i++) {
+			sut.next();
+		}
+		assertThrows(IllegalStateException.class, sut::next);
+		assertThrows(IllegalStateException.class, sut::next);
+		sut.nextMatchday();
+		assertThat(sut.next(), is(new GameId("1/2/1")));
+	}
+
+	@Example
+	void seasonsContinueAfterTheSeasonPassed() {
+		GameIdGenerator sut = new GameIdGenerator();
+		sut.continueAfterSeason(4);
+		sut.nextSeason();
+		sut.nextMatchday();
+		assertThat(sut.next(), is(new GameId("5/1/1")));
+		sut.continueAfterSeason(3);
+		assertThat(sut.next(), is(new GameId("5/1/2")));
+	}
+
+	@Property
+	void binaryFormIsTheSameId(@ForAll @IntRange(min = 0) int season, @ForAll @IntRange(max = 0xFFFF) int matchday,
+			@ForAll @IntRange(max = 0xFFFF) int game) {
+		GameId gameId = new GameId(season + "/" + matchday + "/" + game);
+		assertThat(GameId.fromBinary(gameId.toBinary()), is(gameId));
+	}
+
+	@Example
+	void binaryFormsSortLikeTheGames() {
+		long game = new GameId("1/2/10").toBinary();
+		assertThat(game < new GameId("1/2/11").toBinary(), is(true));
+		assertThat(game < new GameId("1/3/1").toBinary(), is(true));
+		assertThat(game < new GameId("2/1/1").toBinary(), is(true));
+	}
+
+	@Example
+	void randomIdsHaveNoBinaryForm() {
+		assertThrows(IllegalStateException.class, () -> GameId.random().toBinary());
+	}
+
+}
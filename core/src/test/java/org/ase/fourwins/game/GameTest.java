@@ -1,5 +1,8 @@
 package org.ase.fourwins.game;
 
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.ase.fourwins.board.Board.Score.DRAW;
 import static org.ase.fourwins.board.Board.Score.LOSE;
 import static org.ase.fourwins.board.Board.Score.WIN;
@@ -12,7 +15,18 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.BoardInfo;
 import org.ase.fourwins.board.BoardInfo.BoardInfoBuilder;
 import org.ase.fourwins.board.mockplayers.ColumnTrackingMockPlayer;
@@ -106,6 +120,127 @@ public class GameTest {
 		assertThat(exception.getMessage(), containsString("same tokens X"));
 	}
 
+	@Test
+	void asyncPlayersAnsweringLaterAreWaitedFor() throws Exception {
+		ExecutorService executor = newSingleThreadExecutor();
+		try {
+			Player firstPlayer = asyncPlayer("X", executor, withMoves(0, 0, 0, 0));
+			Player secondPlayer = asyncPlayer("O", executor, withMoves(1, 1, 1, 1));
+			CompletableFuture<Game> game = makeGame(aBoard().columns(2).rows(4), firstPlayer, secondPlayer)
+					.runGameAsync(executor).toCompletableFuture();
+			assertThat(game.get(5, SECONDS).gameState(), winnerIs("X"));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void asyncPlayerFailingWillLoseTheGame() {
+		String exceptionMessage = "the exception text";
+		Player firstPlayer = new Player("X") {
+			@Override
+			protected int nextColumn() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			protected CompletionStage<Integer> nextColumnAsync() {
+				return CompletableFuture.supplyAsync(() -> {
+					throw new IllegalStateException(exceptionMessage);
+				});
+			}
+		};
+		Player secondPlayer = player("O", withMoves());
+		Game game = runGame(aBoard().columns(2).rows(2), firstPlayer, secondPlayer);
+		assertThat(game.gameState().getScore(), is(LOSE));
+		assertThat(game.gameState().getReason(), is(exceptionMessage));
+	}
+
+	@Test
+	void adjudicatedGamesEndEarly() {
+		Player firstPlayer = player("X", withMoves(0, 0, 0, 0));
+		Player secondPlayer = player("O", withMoves(1, 1, 1, 1));
+		GameState decided = GameState.builder().score(WIN).token("X").reason(Adjudicator.ADJUDICATED).build();
+		Adjudicator adjudicator = (boardInfo, tokens) -> (slot, column) -> Optional.of(decided)
+				.filter(s -> slot == 1 && tokens.equals(List.of("X", "O")));
+		Game game = makeGame(aBoard().columns(2).rows(4), firstPlayer, secondPlayer).adjudicateWith(adjudicator)
+				.runGame();
+		assertThat(game.gameState(), is(decided));
+	}
+
+	@Test
+	void failingAdjudicatorsDoNotDecideTheGame() {
+		Player firstPlayer = player("X", withMoves(0, 0, 0, 0));
+		Player secondPlayer = player("O", withMoves(1, 1, 1, 1));
+		Adjudicator adjudicator = (boardInfo, tokens) -> (slot, column) -> {
+			throw new IllegalStateException();
+		};
+		Game game = makeGame(aBoard().columns(2).rows(4), firstPlayer, secondPlayer).adjudicateWith(adjudicator)
+				.runGame();
+		assertThat(game.gameState(), winnerIs("X"));
+	}
+
+	@Test
+	void slowNotificationsOfAPlayerDoNotDelayTheNextMove() {
+		ExecutorService executor = newCachedThreadPool();
+		CountDownLatch secondPlayerAsked = new CountDownLatch(1);
+		List<Object> notifications = new CopyOnWriteArrayList<>();
+		try {
+			Iterator<Integer> moves = withMoves(0, 0, 0, 0).iterator();
+			Player firstPlayer = new Player("X") {
+				@Override
+				protected int nextColumn() {
+					return moves.next();
+				}
+
+				@Override
+				protected void tokenWasInserted(String token, int column) {
+					if (notifications.isEmpty()) {
+						notifications.add(awaitSecondPlayerAsked(secondPlayerAsked));
+					}
+					notifications.add(token + column);
+				}
+			};
+			Player secondPlayer = new Player("O") {
+				@Override
+				protected int nextColumn() {
+					secondPlayerAsked.countDown();
+					return 1;
+				}
+			};
+			Game game = new DefaultGame(Board.newBoard(aBoard().columns(2).rows(4).build()), random(), firstPlayer,
+					secondPlayer).notifyOn(executor).runGame();
+			assertThat(game.gameState(), winnerIs("X"));
+			assertThat(notifications, is(List.of(true, "X0", "O1", "X0", "O1", "X0", "O1", "X0")));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static boolean awaitSecondPlayerAsked(CountDownLatch secondPlayerAsked) {
+		try {
+			return secondPlayerAsked.await(5, SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static Player asyncPlayer(String token, Executor executor, List<Integer> columns) {
+		Iterator<Integer> moves = columns.iterator();
+		return new Player(token) {
+			@Override
+			protected int nextColumn() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			protected CompletionStage<Integer> nextColumnAsync() {
+				return CompletableFuture.supplyAsync(moves::next, executor);
+			}
+		};
+	}
+
 	private BoardInfoBuilder aBoard() {
 		return BoardInfo.builder();
 	}
@@ -118,11 +253,11 @@ public class GameTest {
 		return makeGame(boardInfo, players).runGame();
 	}
 
-	private Game makeGame(BoardInfo.BoardInfoBuilder boardInfo, Player... players) {
+	private DefaultGame makeGame(BoardInfo.BoardInfoBuilder boardInfo, Player... players) {
 		return makeGame(boardInfo.build(), players);
 	}
 
-	private Game makeGame(BoardInfo build, Player... players) {
+	private DefaultGame makeGame(BoardInfo build, Player... players) {
 		return new DefaultGame(Board.newBoard(build), random(), players);
 	}
 
@@ -0,0 +1,54 @@
+package org.ase.fourwins.game;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.DoubleRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+
+class LatencyHistogramTest {
+
+	private final LatencyHistogram sut = new LatencyHistogram();
+
+	@Example
+	void emptyHistogramReturnsZero() {
+		assertThat(sut.count(), is(0L));
+		assertThat(sut.percentile(99), is(0L));
+		assertThat(sut.max(), is(0L));
+	}
+
+	@Example
+	void smallValuesAreExact() {
+		for (long value = 0; value < 64; value++) {
+			sut.record(value);
+		}
+		assertThat(sut.percentile(50), is(31L));
+		assertThat(sut.percentile(100), is(63L));
+	}
+
+	@Property
+	void percentilesAreWithinThreePercent(
+			@ForAll @Size(min = 1, max = 200) List<@LongRange(min = 0, max = 100_000_000_000L) Long> values,
+			@ForAll @DoubleRange(min = 0, max = 100) double percentile) {
+		LatencyHistogram sut = new LatencyHistogram();
+		values.forEach(sut::record);
+		long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+		Arrays.sort(sorted);
+		long expected = sorted[(int) Math.max(0, Math.ceil(sorted.length * percentile / 100) - 1)];
+		assertThat(sut.percentile(percentile), is(allOf(greaterThanOrEqualTo(expected),
+				lessThanOrEqualTo(expected + expected / 32))));
+		assertThat(sut.max(), is(sorted[sorted.length - 1]));
+		assertThat(sut.count(), is((long) sorted.length));
+	}
+
+}
@@ -0,0 +1,222 @@
+package org.ase.fourwins.journal;
+
+import static java.nio.file.Files.createTempDirectory;
+import static java.util.stream.Collectors.toList;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Game.GameId;
+
+import net.jqwik.api.Example;
+
+class GameArchiveTest {
+
+	private static final Duration NEVER = Duration.ofDays(365);
+
+	@Example
+	void gamesAreFoundInAllSegments() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(50);
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			appendAll(archive, records);
+			assertThat(segments(directory) > 1, is(true));
+			assertAllFound(archive, records);
+		}
+	}
+
+	@Example
+	void indexGrowsWithTheGames() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(2000);
+		try (GameArchive archive = GameArchive.open(directory, 1 << 14, NEVER)) {
+			appendAll(archive, records);
+			assertAllFound(archive, records);
+			assertThat(files(directory, ".index") > 1, is(true));
+		}
+		try (GameArchive archive = GameArchive.open(directory, 1 << 14, NEVER)) {
+			assertAllFound(archive, records);
+			assertThat(files(directory, ".index"), is(1L));
+		}
+	}
+
+	@Example
+	void unknownGamesAreNotFound() throws IOException {
+		try (GameArchive archive = GameArchive.open(createTempDirectory("archive"), 256, NEVER)) {
+			appendAll(archive, records(10));
+			assertThat(archive.find(GameId.random()), is(Optional.empty()));
+		}
+	}
+
+	@Example
+	void gamesAreFoundAfterReopening() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(20);
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			appendAll(archive, records);
+		}
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			assertAllFound(archive, records);
+		}
+	}
+
+	@Example
+	void segmentNotSealedIsRecoveredAndContinued() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(20);
+		GameArchive crashed = GameArchive.open(directory, 1024, NEVER);
+		appendAll(crashed, records.subList(0, 10));
+
+		try (GameArchive archive = GameArchive.open(directory, 1024, NEVER)) {
+			appendAll(archive, records.subList(10, 20));
+			assertAllFound(archive, records);
+		}
+	}
+
+	@Example
+	void segmentsAreRolledWhenTooOld() throws IOException {
+		Path directory = createTempDirectory("archive");
+		try (GameArchive archive = GameArchive.open(directory, 1 << 20, Duration.ZERO)) {
+			appendAll(archive, records(3));
+		}
+		assertThat(segments(directory), is(3L));
+	}
+
+	@Example
+	void gamesFoundStayReadableWhileTheirFilesAreSealedAndIndexed() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(2000);
+		try (GameArchive archive = GameArchive.open(directory, 1 << 12, NEVER)) {
+			appendAll(archive, records.subList(0, 10));
+			List<ArchivedGame> found = records.subList(0, 10).stream().map(r -> archive.find(r.getGameId()).get())
+					.collect(toList());
+			appendAll(archive, records.subList(10, 2000));
+			assertThat(found.stream().map(ArchivedGame::toRecord).collect(toList()), is(records.subList(0, 10)));
+		}
+		try (GameArchive archive = GameArchive.open(directory, 1 << 12, NEVER)) {
+			assertAllFound(archive, records);
+		}
+	}
+
+	@Example
+	void sealedSegmentsAreFoundAndFollowedAfterReopening() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(3);
+		try (GameArchive archive = GameArchive.open(directory, 1 << 20, Duration.ZERO)) {
+			appendAll(archive, records);
+		}
+		try (GameArchive archive = GameArchive.open(directory, 1 << 20, NEVER)) {
+			assertAllFound(archive, records);
+			GameRecord record = records.get(2);
+			archive.append(record);
+			assertThat(archive.find(record.getGameId()).map(ArchivedGame::toRecord), is(Optional.of(record)));
+		}
+		assertThat(files(directory, ".data"), is(4L));
+	}
+
+	@Example
+	void indexIsRebuiltIfItIsMissing() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(50);
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			appendAll(archive, records);
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.filter(p -> p.toString().endsWith(".index")).collect(toList())) {
+				Files.delete(file);
+			}
+		}
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			assertAllFound(archive, records);
+		}
+	}
+
+	@Example
+	void newestRecordOfAGameIsFound() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(20);
+		GameRecord older = records.get(5);
+		GameRecord newer = new GameRecord(older.getGameId(), older.getBoardInfo(), older.getTokens(),
+				new int[] { 3 }, older.getResult());
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			appendAll(archive, records);
+			archive.append(newer);
+			assertThat(archive.find(older.getGameId()).map(ArchivedGame::toRecord), is(Optional.of(newer)));
+		}
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			assertThat(archive.find(older.getGameId()).map(ArchivedGame::toRecord), is(Optional.of(newer)));
+		}
+	}
+
+	@Example
+	void lastSeasonOfTheGeneratedIdsIsKept() throws IOException {
+		Path directory = createTempDirectory("archive");
+		List<GameRecord> records = records(3);
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			appendAll(archive, records);
+			for (String gameId : List.of("2/1/1", "12/1/1", "3/1/1")) {
+				GameRecord record = records.get(0);
+				archive.append(new GameRecord(new GameId(gameId), record.getBoardInfo(), record.getTokens(),
+						new int[0], record.getResult()));
+			}
+			assertThat(archive.lastSeason(), is(12));
+		}
+		try (GameArchive archive = GameArchive.open(directory, 256, NEVER)) {
+			assertThat(archive.lastSeason(), is(12));
+		}
+	}
+
+	@Example
+	void archivedGamesCanBeReplayed() throws IOException {
+		GameRecord record = new GameRecord(GameId.random(), BoardInfo.sevenColsSixRows, List.of("X", "O"),
+				new int[] { 0, 1, 0, 1, 0, 1, 0 },
+				GameState.builder().score(WIN).token("X").reason("CONNECTED_LINE").build());
+		try (GameArchive archive = GameArchive.open(createTempDirectory("archive"))) {
+			archive.append(record);
+			ArchivedGame game = archive.find(record.getGameId()).get();
+			assertThat(new GameReplay().confirms(game), is(true));
+		}
+	}
+
+	private static List<GameRecord> records(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new GameRecord(GameId.random(), BoardInfo.sevenColsSixRows, List.of("X", "O"),
+						IntStream.range(0, i % 42).map(c -> c % 7).toArray(),
+						GameState.builder().score(WIN).token("O").reason("game " + i).build()))
+				.collect(toList());
+	}
+
+	private static void appendAll(GameArchive archive, List<GameRecord> records) throws IOException {
+		for (GameRecord record : records) {
+			archive.append(record);
+		}
+	}
+
+	private static void assertAllFound(GameArchive archive, List<GameRecord> records) {
+		for (GameRecord record : records) {
+			assertThat(archive.find(record.getGameId()).map(ArchivedGame::toRecord), is(Optional.of(record)));
+		}
+	}
+
+	private static long segments(Path directory) throws IOException {
+		return files(directory, ".data");
+	}
+
+	private static long files(Path directory, String suffix) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(p -> p.toString().endsWith(suffix)).count();
+		}
+	}
+
+}
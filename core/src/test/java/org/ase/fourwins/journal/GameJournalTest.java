@@ -0,0 +1,78 @@
+package org.ase.fourwins.journal;
+
+import static java.util.Arrays.copyOf;
+import static java.util.stream.Collectors.toList;
+import static org.ase.fourwins.board.Board.Score.IN_GAME;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.Board.Score;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.mockplayers.RandomMockPlayer;
+import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.tournament.DefaultTournament;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.NotEmpty;
+import net.jqwik.api.constraints.UniqueElements;
+
+class GameJournalTest {
+
+	@Property
+	void recordsAreReadAsWritten(@ForAll @NotEmpty @UniqueElements List<String> tokens, @ForAll int[] columns,
+			@ForAll Score score, @ForAll String reason) {
+		GameRecord record = new GameRecord(GameId.random(), BoardInfo.sevenColsSixRows, tokens, columns,
+				GameState.builder().score(score).token(tokens.get(0)).reason(reason).build());
+		assertThat(read(write(record, record)), is(List.of(record, record)));
+	}
+
+	@Example
+	void incompleteLastRecordIsIgnored() {
+		GameRecord record = new GameRecord(GameId.random(), BoardInfo.sevenColsSixRows, List.of("X", "O"),
+				new int[] { 3, 3, 4 }, GameState.builder().score(IN_GAME).build());
+		byte[] bytes = write(record, record);
+		assertThat(read(copyOf(bytes, bytes.length - 1)), is(List.of(record)));
+	}
+
+	@Example
+	void gamesOfATournamentCanBeReplayed() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DefaultTournament tournament = new DefaultTournament();
+		tournament.addTournamentListener(new GameJournal(out));
+		List<GameState> results = new ArrayList<>();
+		tournament.playSeason(List.of(new RandomMockPlayer("P1"), new RandomMockPlayer("P2"),
+				new RandomMockPlayer("P3")), results::add);
+
+		List<GameRecord> records = read(out.toByteArray());
+		assertThat(records.stream().map(GameRecord::getResult).map(GameJournalTest::scoreOf).sorted().collect(toList()),
+				is(results.stream().map(GameJournalTest::scoreOf).sorted().collect(toList())));
+		GameReplay replay = new GameReplay();
+		records.stream().filter(r -> r.moves() > 0).forEach(r -> assertThat(r.toString(), replay.confirms(r), is(true)));
+	}
+
+	private static String scoreOf(GameState state) {
+		return state.getScore() + " " + state.getToken() + " " + state.getReason();
+	}
+
+	private static byte[] write(GameRecord... records) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GameJournal journal = new GameJournal(out);
+		for (GameRecord record : records) {
+			journal.append(record);
+		}
+		return out.toByteArray();
+	}
+
+	private static List<GameRecord> read(byte[] bytes) {
+		return new GameJournalReader(new ByteArrayInputStream(bytes)).stream().collect(toList());
+	}
+
+}
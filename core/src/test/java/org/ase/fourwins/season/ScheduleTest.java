@@ -0,0 +1,78 @@
+package org.ase.fourwins.season;
+
+import static java.util.stream.Collectors.toList;
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.season.SeasonTest.matchesOf;
+import static org.ase.fourwins.season.SeasonTest.teams;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+class ScheduleTest {
+
+	private static final String EVEN_TEAMS = SeasonTest.EVEN_TEAMS;
+
+	@Property
+	void matchesAreTheOnesOfTheSeason(@ForAll(EVEN_TEAMS) int numberOfTeams) {
+		List<String> teams = teams(numberOfTeams);
+		List<Match<String>> matches = matchesOf(new Season<>(teams)).collect(toList());
+		Schedule<String> schedule = new Schedule<>(teams);
+		assertThat(schedule.matches().collect(toList()), is(matches));
+		assertThat(schedule.size(), is((long) matches.size()));
+	}
+
+	@Property
+	void matchesCanBeLookedUpDirectly(@ForAll(EVEN_TEAMS) int numberOfTeams) {
+		List<String> teams = teams(numberOfTeams);
+		List<Matchday<String>> matchdays = new Season<>(teams).getMatchdays().collect(toList());
+		List<Match<String>> matches = matchesOf(matchdays.stream()).collect(toList());
+		Schedule<String> schedule = new Schedule<>(teams);
+		for (int index = 0; index < matches.size(); index += 7) {
+			assertThat(schedule.match(index), is(matches.get(index)));
+			assertThat(schedule.matches(index).findFirst().get(), is(matches.get(index)));
+		}
+		for (int matchday = 0; matchday < matchdays.size(); matchday++) {
+			assertThat(schedule.matchday(matchday).getMatches().collect(toList()),
+					is(matchdays.get(matchday).getMatches().collect(toList())));
+		}
+	}
+
+	@Property
+	void parallelStreamsKeepTheOrder(@ForAll(EVEN_TEAMS) int numberOfTeams) {
+		Schedule<String> schedule = new Schedule<>(teams(numberOfTeams));
+		assertThat(StreamSupport.stream(schedule.spliterator(), true).collect(toList()),
+				is(schedule.matches().collect(toList())));
+	}
+
+	@Example
+	void splitsIntoHalves() {
+		Spliterator<Match<String>> spliterator = new Schedule<>(teams(10)).spliterator();
+		Spliterator<Match<String>> prefix = spliterator.trySplit();
+		assertThat(prefix.estimateSize(), is(45L));
+		assertThat(spliterator.estimateSize(), is(45L));
+	}
+
+	@Example
+	void matchesNotInTheSeasonCannotBeLookedUp() {
+		Schedule<String> schedule = new Schedule<>(teams(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> schedule.match(12));
+		assertThrows(IndexOutOfBoundsException.class, () -> schedule.match(0, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> new Schedule<>(teams(3)));
+	}
+
+	@Provide(EVEN_TEAMS)
+	Arbitrary<Integer> evenTeamList() {
+		return integers().between(1, 100 / 2).map(i -> i * 2);
+	}
+
+}
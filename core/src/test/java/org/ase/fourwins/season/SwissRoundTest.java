@@ -0,0 +1,92 @@
+package org.ase.fourwins.season;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static net.jqwik.api.Arbitraries.integers;
+import static org.ase.fourwins.season.SeasonTest.assertNoDuplicateTeams;
+import static org.ase.fourwins.season.SeasonTest.teams;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+class SwissRoundTest {
+
+	private static final String EVEN_TEAMS = SeasonTest.EVEN_TEAMS;
+
+	@Example
+	void roundsAreEnoughToFindASingleWinner() {
+		assertThat(SwissRound.roundsFor(1), is(0));
+		assertThat(SwissRound.roundsFor(2), is(1));
+		assertThat(SwissRound.roundsFor(3), is(2));
+		assertThat(SwissRound.roundsFor(16), is(4));
+		assertThat(SwissRound.roundsFor(10_000), is(14));
+	}
+
+	@Property
+	void eachTeamPlaysOnEachMatchdayAndNobodyTwice(@ForAll(EVEN_TEAMS) int numberOfTeams) {
+		List<String> teams = teams(numberOfTeams);
+		Map<String, Double> standings = new HashMap<>();
+		Random random = new Random(numberOfTeams);
+		SwissRound<String> round = new SwissRound<>(teams, SwissRound.roundsFor(numberOfTeams),
+				t -> standings.getOrDefault(t, 0.0));
+		Set<Set<String>> pairs = new HashSet<>();
+		round.getMatchdays().forEach(matchday -> {
+			List<Match<String>> matches = matchday.getMatches().collect(toList());
+			assertNoDuplicateTeams(teams, matches);
+			matches.forEach(m -> {
+				assertThat(pairs.add(Set.of(m.getTeam1(), m.getTeam2())), is(true));
+				standings.merge(random.nextBoolean() ? m.getTeam1() : m.getTeam2(), 1.0, Double::sum);
+			});
+		});
+		assertThat(pairs.size(), is(numberOfTeams / 2 * SwissRound.roundsFor(numberOfTeams)));
+	}
+
+	@Example
+	void teamsOfTheSameStandingArePaired() {
+		List<String> teams = teams(8);
+		Map<String, Double> standings = new HashMap<>();
+		SwissRound<String> round = new SwissRound<>(teams, 2, t -> standings.getOrDefault(t, 0.0));
+		List<Matchday<String>> matchdays = round.getMatchdays().collect(toList());
+		matchdays.get(0).getMatches().forEach(m -> standings.put(m.getTeam2(), 1.0));
+		Set<Set<String>> winners = matchdays.get(1).getMatches().map(m -> Set.of(m.getTeam1(), m.getTeam2()))
+				.filter(p -> p.stream().allMatch(t -> standings.containsKey(t))).collect(toSet());
+		assertThat(winners.size(), is(2));
+	}
+
+	@Example
+	void largeLeaguesArePairedQuickly() {
+		List<String> teams = teams(10_000);
+		Random random = new Random(42);
+		Map<String, Double> standings = new HashMap<>();
+		SwissRound<String> round = new SwissRound<>(teams, SwissRound.roundsFor(teams.size()),
+				t -> standings.getOrDefault(t, 0.0));
+		long matches = round.getMatchdays().flatMap(Matchday::getMatches)
+				.peek(m -> standings.merge(random.nextBoolean() ? m.getTeam1() : m.getTeam2(), 1.0, Double::sum))
+				.count();
+		assertThat(matches, is(5_000L * 14));
+	}
+
+	@Example
+	void exceptionWhenAmountOfTeamsIsOdd() {
+		assertThrows(IllegalArgumentException.class, () -> new SwissRound<>(teams(3), 2, t -> 0));
+	}
+
+	@Provide(EVEN_TEAMS)
+	Arbitrary<Integer> evenTeamList() {
+		return integers().between(1, 200 / 2).map(i -> i * 2);
+	}
+
+}
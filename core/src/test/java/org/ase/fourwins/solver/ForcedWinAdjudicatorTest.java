@@ -0,0 +1,71 @@
+package org.ase.fourwins.solver;
+
+import static org.ase.fourwins.board.Board.Score.DRAW;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.game.Adjudicator.ADJUDICATED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.game.Adjudicator.Adjudication;
+import org.junit.jupiter.api.Test;
+
+public class ForcedWinAdjudicatorTest {
+
+	private final ForcedWinAdjudicator sut = new ForcedWinAdjudicator(4);
+
+	@Test
+	void gamesGoingOnAreNotDecided() {
+		Adjudication adjudication = sut.newGame(BoardInfo.sevenColsSixRows, List.of("X", "O"));
+		assertThat(play(adjudication, 3, 3, 2), is(Optional.empty()));
+	}
+
+	@Test
+	void aForcedWinIsAdjudicated() {
+		Adjudication adjudication = sut.newGame(BoardInfo.sevenColsSixRows, List.of("X", "O"));
+		assertThat(play(adjudication, 1, 1, 2, 2, 3),
+				is(Optional.of(GameState.builder().score(WIN).token("X").reason(ADJUDICATED).build())));
+	}
+
+	@Test
+	void aForcedWinOfThePlayerToMoveIsAdjudicated() {
+		Adjudication adjudication = sut.newGame(BoardInfo.sevenColsSixRows, List.of("X", "O"));
+		assertThat(play(adjudication, 1, 1, 2, 2),
+				is(Optional.of(GameState.builder().score(WIN).token("X").reason(ADJUDICATED).build())));
+	}
+
+	@Test
+	void aWinInOneMoveBeatsTheThreatsOfTheOpponent() {
+		Adjudication adjudication = new ForcedWinAdjudicator(8).newGame(BoardInfo.sevenColsSixRows,
+				List.of("X", "O"));
+		assertThat(play(adjudication, 0, 2, 0, 4, 0, 3),
+				is(Optional.of(GameState.builder().score(WIN).token("X").reason(ADJUDICATED).build())));
+	}
+
+	@Test
+	void gamesNoLineCanBeConnectedInAreDraws() {
+		BoardInfo boardInfo = BoardInfo.builder().columns(4).rows(1).toConnect(4).build();
+		Adjudication adjudication = sut.newGame(boardInfo, List.of("X", "O"));
+		assertThat(play(adjudication, 0, 1),
+				is(Optional.of(GameState.builder().score(DRAW).reason(ADJUDICATED).build())));
+	}
+
+	@Test
+	void gamesOfMoreThanTwoPlayersAreNotDecided() {
+		Adjudication adjudication = sut.newGame(BoardInfo.sevenColsSixRows, List.of("X", "O", "Z"));
+		assertThat(play(adjudication, 1, 1, 2, 2, 3), is(Optional.empty()));
+	}
+
+	private static Optional<GameState> play(Adjudication adjudication, int... columns) {
+		Optional<GameState> state = Optional.empty();
+		for (int move = 0; move < columns.length; move++) {
+			state = adjudication.moveMade(move % 2, columns[move]);
+		}
+		return state;
+	}
+
+}
@@ -0,0 +1,81 @@
+package org.ase.fourwins.solver;
+
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.board.Move.moveToColumn;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.BoardInfo;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+class PositionTest {
+
+	@Property
+	void winningMovesAreTheSameAsOnTheBoard(@ForAll @IntRange(min = 1, max = 8) int columns,
+			@ForAll @IntRange(min = 1, max = 7) int rows, @ForAll @IntRange(min = 1, max = 6) int toConnect,
+			@ForAll @Size(max = 64) List<@IntRange(max = 7) Integer> moves) {
+		BoardInfo boardInfo = BoardInfo.builder().columns(columns).rows(rows).toConnect(toConnect).build();
+		Position position = new Position(new Position.Geometry(boardInfo));
+		Board board = Board.newBoard(boardInfo);
+		for (int move = 0; move < moves.size() && !position.isFull(); move++) {
+			int column = moves.get(move) % columns;
+			if (!position.canPlay(column)) {
+				continue;
+			}
+			String token = position.moves() % 2 == 0 ? "X" : "O";
+			boolean winningMove = position.isWinningMove(column);
+			position.play(column);
+			board = board.insertToken(moveToColumn(column), token);
+			assertThat(winningMove, is(board.gameState().getScore() == WIN));
+			if (winningMove) {
+				return;
+			}
+		}
+	}
+
+	@Property
+	void mirroredPositionsShareTheirCanonicalKey(@ForAll @IntRange(min = 1, max = 8) int columns,
+			@ForAll @IntRange(min = 1, max = 6) int rows, @ForAll @Size(max = 48) List<@IntRange(max = 7) Integer> moves) {
+		Position.Geometry geometry = new Position.Geometry(
+				BoardInfo.builder().columns(columns).rows(rows).toConnect(4).build());
+		Position position = new Position(geometry);
+		Position mirrored = new Position(geometry);
+		for (int move : moves) {
+			int column = move % columns;
+			if (position.canPlay(column)) {
+				position.play(column);
+				mirrored.play(columns - 1 - column);
+			}
+		}
+		assertThat(mirrored.canonicalKey(), is(position.canonicalKey()));
+		// symmetric positions keep their columns
+		for (int column = 0; column < columns && mirrored.key() != position.key(); column++) {
+			assertThat(mirrored.canonicalColumn(columns - 1 - column), is(position.canonicalColumn(column)));
+		}
+	}
+
+	@Property
+	void undoingAllMovesRestoresTheCanonicalKey(@ForAll @Size(max = 42) List<@IntRange(max = 6) Integer> moves) {
+		Position position = new Position(new Position.Geometry(BoardInfo.sevenColsSixRows));
+		long emptyKey = position.canonicalKey();
+		Deque<Integer> played = new ArrayDeque<>();
+		for (int column : moves) {
+			if (position.canPlay(column)) {
+				position.play(column);
+				played.push(column);
+			}
+		}
+		played.forEach(position::undo);
+		assertThat(position.canonicalKey(), is(emptyKey));
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.ase.fourwins.solver;
+
+import static org.ase.fourwins.board.Board.Score.LOSE;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.ase.fourwins.game.Game.GameId.random;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.mockplayers.RandomMockPlayer;
+import org.ase.fourwins.game.DefaultGame;
+import org.ase.fourwins.game.Player;
+import org.junit.jupiter.api.Test;
+
+public class SolverPlayerTest {
+
+	private static final Duration TIME_PER_MOVE = Duration.ofMillis(20);
+
+	@Test
+	void connectsALineIfPossible() {
+		SolverPlayer sut = playing("X", 0, 6, 0, 6, 0, 6);
+		assertThat(sut.nextColumn(), is(0));
+	}
+
+	@Test
+	void blocksALineOfTheOpponent() {
+		SolverPlayer sut = playing("O", 1, 6, 1, 6, 1);
+		assertThat(sut.nextColumn(), is(1));
+	}
+
+	@Test
+	void findsADoubleThreat() {
+		SolverPlayer sut = playing("X", 1, 1, 2, 2);
+		assertThat(sut.nextColumn(), is(3));
+	}
+
+	@Test
+	void findsADoubleThreatSearchingInParallel() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			SolverPlayer sut = playing(new SolverPlayer("X", TIME_PER_MOVE, pool), 1, 1, 2, 2);
+			assertThat(sut.nextColumn(), is(3));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void answersWithinTheServersTimeout() {
+		Duration timeout = Duration.ofMillis(250);
+		SolverPlayer sut = playing(new SolverPlayer("X", SolverPlayer.timePerMove(timeout)));
+		long startedAt = System.nanoTime();
+		sut.nextColumn();
+		assertThat(System.nanoTime() - startedAt, is(lessThan(timeout.toNanos())));
+	}
+
+	@Test
+	void neverLosesAgainstARandomPlayer() {
+		for (int game = 0; game < 4; game++) {
+			Player solver = new SolverPlayer("S", TIME_PER_MOVE);
+			Player randomPlayer = new RandomMockPlayer("R");
+			GameState state = game % 2 == 0 ? play(solver, randomPlayer) : play(randomPlayer, solver);
+			assertThat(state.toString(), state.getScore() == WIN && "R".equals(state.getToken()), is(false));
+			assertThat(state.toString(), state.getScore() == LOSE && "S".equals(state.getToken()), is(false));
+		}
+	}
+
+	@Test
+	void playsWhenTheBoardIsTooLargeToBeSearched() {
+		BoardInfo boardInfo = BoardInfo.builder().columns(20).rows(20).build();
+		SolverPlayer sut = new SolverPlayer("X", TIME_PER_MOVE);
+		sut.joinGame("O", boardInfo);
+		assertThat(sut.nextColumn(), is(10));
+		assertThat(play(new SolverPlayer("X", TIME_PER_MOVE), new SolverPlayer("O", TIME_PER_MOVE), boardInfo)
+				.getScore(), is(not(LOSE)));
+	}
+
+	private static GameState play(Player first, Player second) {
+		return play(first, second, BoardInfo.sevenColsSixRows);
+	}
+
+	private static GameState play(Player first, Player second, BoardInfo boardInfo) {
+		return new DefaultGame(Board.newBoard(boardInfo), random(), first, second).runGame().gameState();
+	}
+
+	private static SolverPlayer playing(String token, int... columns) {
+		return playing(new SolverPlayer(token, TIME_PER_MOVE), columns);
+	}
+
+	private static SolverPlayer playing(SolverPlayer player, int... columns) {
+		player.joinGame("other", BoardInfo.sevenColsSixRows);
+		for (int column : columns) {
+			player.tokenWasInserted("any", column);
+		}
+		return player;
+	}
+
+}
@@ -3,8 +3,13 @@ package org.ase.fourwins.tournament;
 import static org.ase.fourwins.board.Board.Score.IN_GAME;
 import static org.ase.fourwins.board.Board.Score.LOSE;
 
+import java.util.BitSet;
+import java.util.Optional;
+
 import org.ase.fourwins.board.Board;
 import org.ase.fourwins.board.BoardInfo;
+import org.ase.fourwins.board.BoardSnapshot;
+import org.ase.fourwins.board.Coordinate;
 import org.ase.fourwins.board.Move;
 
 public final class DummyBoard extends Board {
@@ -34,4 +39,40 @@ public final class DummyBoard extends Board {
 	public BoardInfo boardInfo() {
 		return BoardInfo.sevenColsSixRows;
 	}
+
+	@Override
+	public int height(int column) {
+		return 0;
+	}
+
+	@Override
+	public BitSet legalColumns() {
+		BitSet legalColumns = new BitSet();
+		if (gameState.getScore() == IN_GAME) {
+			legalColumns.set(0, boardInfo().getColumns());
+		}
+		return legalColumns;
+	}
+
+	@Override
+	public boolean isLegalColumn(int column) {
+		return legalColumns().get(column);
+	}
+
+	@Override
+	public int nextLegalColumn(int fromColumn) {
+		return legalColumns().nextSetBit(fromColumn);
+	}
+
+	@Override
+	public Optional<Object> tokenAt(Coordinate coordinate) {
+		return Optional.empty();
+	}
+
+	@Override
+	public BoardSnapshot snapshot() {
+		// the dummy does not keep the tokens inserted
+		throw new UnsupportedOperationException("no snapshots of dummy boards");
+	}
+
 }
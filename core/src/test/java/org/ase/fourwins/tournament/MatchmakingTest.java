@@ -0,0 +1,152 @@
+package org.ase.fourwins.tournament;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
+import static org.ase.fourwins.board.Board.Score.WIN;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ase.fourwins.board.Board;
+import org.ase.fourwins.board.Board.GameState;
+import org.ase.fourwins.board.mockplayers.PlayerMock;
+import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.Player;
+import org.ase.fourwins.season.Match;
+import org.ase.fourwins.tournament.listener.TournamentListener;
+
+import net.jqwik.api.Example;
+
+class MatchmakingTest {
+
+	private final List<Match<Player>> matches = new ArrayList<>();
+	private final List<CompletableFuture<GameState>> games = new ArrayList<>();
+	private final Semaphore concurrentGames = new Semaphore(10);
+	private final Matchmaking sut = new Matchmaking((team1, team2) -> {
+		CompletableFuture<GameState> game = new CompletableFuture<>();
+		matches.add(new Match<>(team1, team2));
+		games.add(game);
+		return game;
+	}, concurrentGames, () -> {
+	});
+
+	private final Player a = new PlayerMock("A");
+	private final Player b = new PlayerMock("B");
+	private final Player c = new PlayerMock("C");
+	private final Player d = new PlayerMock("D");
+
+	@Example
+	void freePlayersArePairedImmediately() {
+		sut.enter(a);
+		assertThat(games.isEmpty(), is(true));
+		sut.enter(b);
+		assertThat(matches, is(List.of(new Match<>(b, a))));
+	}
+
+	@Example
+	void lastOpponentsAreOnlyPairedIfNoOtherPlayerCanGetFree() {
+		sut.enter(a);
+		sut.enter(b);
+		sut.enter(c);
+		win(0, b);
+		assertThat(matches, is(List.of(new Match<>(b, a), new Match<>(b, c))));
+		win(1, b);
+		assertThat(matches, is(List.of(new Match<>(b, a), new Match<>(b, c), new Match<>(c, a))));
+	}
+
+	@Example
+	void twoPlayersPlayEachOtherAgainAndAgain() {
+		sut.enter(a);
+		sut.enter(b);
+		win(0, a);
+		assertThat(matches, is(List.of(new Match<>(b, a), new Match<>(b, a))));
+	}
+
+	@Example
+	void playersLeftAreNotPairedAgain() {
+		sut.enter(a);
+		sut.enter(b);
+		sut.leave(a);
+		win(0, a);
+		assertThat(matches.size(), is(1));
+		sut.enter(c);
+		assertThat(matches, is(List.of(new Match<>(b, a), new Match<>(c, b))));
+	}
+
+	@Example
+	void playersWithTheClosestRatingArePaired() {
+		sut.enter(a);
+		sut.enter(b);
+		sut.enter(c);
+		sut.enter(d);
+		win(0, b);
+		win(1, d);
+		assertThat(sut.ratingOf("B") > sut.ratingOf("A"), is(true));
+		assertThat(matches.subList(2, 4), is(List.of(new Match<>(d, b), new Match<>(c, a))));
+	}
+
+	@Example
+	void gamesAreOnlyStartedIfThereArePermits() {
+		concurrentGames.drainPermits();
+		sut.enter(a);
+		sut.enter(b);
+		assertThat(games.isEmpty(), is(true));
+		concurrentGames.release();
+		sut.enter(c);
+		assertThat(matches, is(List.of(new Match<>(c, b))));
+	}
+
+	@Example
+	void listenersAreInformedOfTheGamesPlayedContinuously() throws InterruptedException {
+		CountDownLatch gamesEnded = new CountDownLatch(20);
+		AtomicInteger started = new AtomicInteger();
+		AtomicInteger ended = new AtomicInteger();
+		AtomicInteger seasonsEnded = new AtomicInteger();
+		DefaultTournament tournament = new DefaultTournament() {
+			@Override
+			protected Board makeBoard() {
+				return new DummyBoard();
+			}
+		};
+		tournament.addTournamentListener(new TournamentListener() {
+			@Override
+			public void gameStarted(Game game) {
+				started.incrementAndGet();
+			}
+
+			@Override
+			public void gameEnded(Game game) {
+				ended.incrementAndGet();
+				gamesEnded.countDown();
+			}
+
+			@Override
+			public void seasonEnded() {
+				seasonsEnded.incrementAndGet();
+			}
+		});
+		List<GameState> states = new ArrayList<>();
+		Matchmaking matchmaking = tournament.startMatchmaking(s -> {
+			synchronized (states) {
+				states.add(s);
+			}
+		});
+		range(0, 4).mapToObj(i -> new PlayerMock("P" + i)).forEach(matchmaking::enter);
+		assertThat(gamesEnded.await(10, SECONDS), is(true));
+		matchmaking.stop();
+		assertThat(started.get(), is(ended.get()));
+		assertThat(states.size(), is(ended.get()));
+		assertThat(seasonsEnded.get(), is(1));
+	}
+
+	private void win(int game, Player winner) {
+		games.get(game).complete(GameState.builder().score(WIN).token(winner.getToken()).build());
+	}
+
+}
@@ -9,17 +9,21 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.mockplayers.PlayerMock;
 import org.ase.fourwins.game.Game;
 import org.ase.fourwins.game.Game.GameId;
+import org.ase.fourwins.game.MoveLatencies;
 import org.ase.fourwins.tournament.listener.TournamentListener;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class TournamentListenerTest {
 
@@ -60,6 +64,25 @@ class TournamentListenerTest {
 		verify(listener, times(1)).seasonEnded();
 	}
 
+	@Test
+	void latenciesOfEachPlayerArePassedWhenSeasonEnds() {
+		PlayerMock p1 = mockPlayer("P1", 0);
+		PlayerMock p2 = mockPlayer("P2", 1);
+		PlayerMock p3 = mockPlayer("P3", 2);
+
+		TournamentListener listener = mock(TournamentListener.class);
+		tournament().withPlayers(p1, p2, p3).registerListener(listener).playSeason();
+
+		ArgumentCaptor<MoveLatencies> captor = ArgumentCaptor.forClass(MoveLatencies.class);
+		verify(listener, times(1)).seasonEnded(captor.capture());
+		MoveLatencies latencies = captor.getValue();
+		assertThat(latencies.byToken().keySet(), is(Set.of("P1", "P2", "P3")));
+		latencies.byToken().values().forEach(l -> {
+			assertThat(l.getMoves().count() > 0, is(true));
+			assertThat(l.getNotifications().count() > 0, is(true));
+		});
+	}
+
 	@Test
 	void tournamentListenerGetsInformedAboutMoves() {
 		List<PlayerMock> players = List.of(mockPlayer("P1", 0), mockPlayer("P2", 1), mockPlayer("P3", 2));
@@ -79,6 +102,54 @@ class TournamentListenerTest {
 		}
 	}
 
+	@Test
+	void gamesAreNumberedBySeasonAndMatchday() {
+		List<PlayerMock> players = List.of(mockPlayer("P1", 0), mockPlayer("P2", 1), mockPlayer("P3", 2));
+		Set<GameId> gameIds = ConcurrentHashMap.newKeySet();
+		DefaultTournament sut = new DefaultTournament();
+		sut.addTournamentListener(new TournamentListener() {
+			@Override
+			public void gameStarted(Game game) {
+				gameIds.add(game.getId());
+			}
+		});
+
+		sut.playSeason(players, noop());
+		sut.playSeason(players, noop());
+
+		Set<GameId> expected = new HashSet<>();
+		for (int season = 1; season <= 2; season++) {
+			for (int matchday = 1; matchday <= 6; matchday++) {
+				for (int game = 1; game <= 2; game++) {
+					expected.add(new GameId(season + "/" + matchday + "/" + game));
+				}
+			}
+		}
+		assertThat(gameIds, is(expected));
+	}
+
+	@Test
+	void seasonsContinueAfterTheLastSeasonOfTheListeners() {
+		List<PlayerMock> players = List.of(mockPlayer("P1", 0), mockPlayer("P2", 1));
+		Set<GameId> gameIds = ConcurrentHashMap.newKeySet();
+		DefaultTournament sut = new DefaultTournament();
+		sut.addTournamentListener(new TournamentListener() {
+			@Override
+			public void gameStarted(Game game) {
+				gameIds.add(game.getId());
+			}
+
+			@Override
+			public int lastSeasonPlayed() {
+				return 7;
+			}
+		});
+
+		sut.playSeason(players, noop());
+
+		assertThat(gameIds, is(Set.of(new GameId("8/1/1"), new GameId("8/2/1"))));
+	}
+
 	private Consumer<GameState> noop() {
 		return c -> {
 		};
@@ -1,6 +1,9 @@
 package org.ase.fourwins.tournament;
 
 import static java.util.Collections.addAll;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static net.jqwik.api.Arbitraries.integers;
@@ -15,16 +18,25 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.ase.fourwins.board.Board;
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.mockplayers.PlayerMock;
+import org.ase.fourwins.game.Game;
 import org.ase.fourwins.game.Player;
 import org.ase.fourwins.tournament.listener.TournamentListener;
 import org.hamcrest.Matcher;
@@ -47,12 +59,24 @@ class TournamentTest {
 
 		private final List<Player> withPlayers = new ArrayList<>();
 		private final List<TournamentListener> tournamentListenerList = new ArrayList<>();
+		private int maxConcurrentGames = DefaultTournament.DEFAULT_MAX_CONCURRENT_GAMES;
+		private int swissRounds;
 
 		public TournamentBuilder withPlayers(Player... withPlayers) {
 			addAll(this.withPlayers, withPlayers);
 			return this;
 		}
 
+		public TournamentBuilder withMaxConcurrentGames(int maxConcurrentGames) {
+			this.maxConcurrentGames = maxConcurrentGames;
+			return this;
+		}
+
+		public TournamentBuilder withSwissRounds(int swissRounds) {
+			this.swissRounds = swissRounds;
+			return this;
+		}
+
 		public Tournament build() {
 			Tournament tournament = new DefaultTournament() {
 
@@ -61,7 +85,7 @@ class TournamentTest {
 					return new DummyBoard();
 				}
 
-			};
+			}.setMaxConcurrentGames(maxConcurrentGames).setSwissRounds(swissRounds);
 			tournamentListenerList.forEach(tournament::addTournamentListener);
 			return tournament;
 		}
@@ -140,6 +164,161 @@ class TournamentTest {
 		assertOpponentsOf(p1, haveBeen("-- --"));
 	}
 
+	@Example
+	void gamesOfAMatchdayRunConcurrently() {
+		int games = Math.min(4 * Runtime.getRuntime().availableProcessors(), 64);
+		CountDownLatch allGamesStarted = new CountDownLatch(games);
+		Player[] players = range(0, 2 * games).mapToObj(i -> new PlayerMock("P" + i) {
+			@Override
+			protected int nextColumn() {
+				if (allGamesStarted.getCount() > 0) {
+					allGamesStarted.countDown();
+					await(allGamesStarted);
+				}
+				return super.nextColumn();
+			}
+		}).toArray(Player[]::new);
+		assertThat(tournament().withPlayers(players).playSeason().size(), is(2 * games * (2 * games - 1)));
+	}
+
+	@Example
+	void maxConcurrentGamesAreNotExceeded() {
+		AtomicInteger runningGames = new AtomicInteger();
+		AtomicInteger maxRunningGames = new AtomicInteger();
+		TournamentListener listener = new TournamentListener() {
+			@Override
+			public void gameStarted(Game game) {
+				maxRunningGames.accumulateAndGet(runningGames.incrementAndGet(), Math::max);
+			}
+
+			@Override
+			public void gameEnded(Game game) {
+				runningGames.decrementAndGet();
+			}
+		};
+		Player[] players = range(0, 10).mapToObj(i -> playerMock("P" + i)).toArray(Player[]::new);
+		tournament().withPlayers(players).withMaxConcurrentGames(2).registerListener(listener).playSeason();
+		assertThat(maxRunningGames.get() <= 2, is(true));
+	}
+
+	@Example
+	void slowGamesDoNotHoldBackTheNextMatchday() {
+		CountDownLatch nextMatchdayStarted = new CountDownLatch(1);
+		AtomicBoolean waited = new AtomicBoolean();
+		AtomicBoolean startedMeanwhile = new AtomicBoolean();
+		PlayerMock slowPlayer = new PlayerMock("P0") {
+			@Override
+			protected int nextColumn() {
+				if (waited.compareAndSet(false, true)) {
+					startedMeanwhile.set(awaitReturning(nextMatchdayStarted));
+				}
+				return super.nextColumn();
+			}
+		};
+		TournamentListener listener = new TournamentListener() {
+			@Override
+			public void gameStarted(Game game) {
+				if (game.getId().getGameId().startsWith("1/2/")) {
+					nextMatchdayStarted.countDown();
+				}
+			}
+		};
+		Player[] players = Stream.concat(Stream.of(slowPlayer), range(1, 6).mapToObj(i -> playerMock("P" + i)))
+				.toArray(Player[]::new);
+		assertThat(tournament().withPlayers(players).registerListener(listener).playSeason().size(), is(6 * 5));
+		assertThat(startedMeanwhile.get(), is(true));
+	}
+
+	@Example
+	void boardsAreReleasedIfTheGameCannotBeCreated() {
+		AtomicInteger boardsInUse = new AtomicInteger();
+		DefaultTournament tournament = new DefaultTournament() {
+
+			@Override
+			protected Board makeBoard() {
+				boardsInUse.incrementAndGet();
+				return new DummyBoard();
+			}
+
+			@Override
+			protected void releaseBoard(Board board) {
+				boardsInUse.decrementAndGet();
+			}
+
+		};
+		List<Player> sameTokens = List.of(playerMock("P"), playerMock("P"));
+		assertThrows(RuntimeException.class, () -> tournament.playSeason(sameTokens, s -> {
+		}));
+		assertThat(boardsInUse.get(), is(0));
+	}
+
+	@Example
+	void swissSeasonsPlayOneGamePerPlayerAndMatchday() {
+		int swissRounds = 3;
+		PlayerMock[] players = range(0, 7).mapToObj(i -> playerMock("P" + i)).toArray(PlayerMock[]::new);
+		List<GameState> states = tournament().withPlayers(players).withSwissRounds(swissRounds).playSeason();
+		assertThat(states.size(), is(4 * swissRounds));
+		for (PlayerMock player : players) {
+			List<String> opponents = player.getOpponents();
+			assertThat(Set.copyOf(opponents).size(), is(opponents.size()));
+		}
+		// the coffee breaks are not joined, one player per matchday has one
+		Map<Integer, Long> playersByOpponents = Stream.of(players)
+				.collect(groupingBy(p -> p.getOpponents().size(), counting()));
+		assertThat(playersByOpponents, is(Map.of(swissRounds, 4L, swissRounds - 1, 3L)));
+	}
+
+	@Example
+	void swissMatchdaysArePairedByTheStandings() {
+		Set<Object> losersOfTheFirstMatchday = ConcurrentHashMap.newKeySet();
+		List<Game> gamesOfTheSecondMatchday = new CopyOnWriteArrayList<>();
+		TournamentListener listener = new TournamentListener() {
+			@Override
+			public void gameEnded(Game game) {
+				if (game.getId().getGameId().startsWith("1/1/")) {
+					losersOfTheFirstMatchday.add(game.gameState().getToken());
+				} else if (game.getId().getGameId().startsWith("1/2/")) {
+					gamesOfTheSecondMatchday.add(game);
+				}
+			}
+		};
+		// players failing to move lose whether they move first or not
+		Set<Integer> failing = Set.of(1, 2, 4, 7);
+		Player[] players = range(0, 8).mapToObj(i -> failing.contains(i) ? new PlayerMock("P" + i) {
+			@Override
+			protected int nextColumn() {
+				throw new IllegalStateException("P" + i + " fails to move");
+			}
+		} : playerMock("P" + i)).toArray(Player[]::new);
+		tournament().withPlayers(players).withSwissRounds(2).registerListener(listener).playSeason();
+		assertThat(losersOfTheFirstMatchday.size(), is(4));
+		assertThat(gamesOfTheSecondMatchday.size(), is(4));
+		for (Game game : gamesOfTheSecondMatchday) {
+			List<Player> pair = game.getPlayers();
+			assertThat(losersOfTheFirstMatchday.contains(pair.get(0).getToken()),
+					is(losersOfTheFirstMatchday.contains(pair.get(1).getToken())));
+		}
+	}
+
+	private static boolean awaitReturning(CountDownLatch latch) {
+		try {
+			return latch.await(10, SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, SECONDS)) {
+				throw new IllegalStateException("Games of the matchday did not run concurrently");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	@Example
 	@Disabled
 	private void whatIsTheResultIfBothPlayersDontWantToPlay_SecondWins_or_Draw() {
@@ -0,0 +1,23 @@
+package org.ase.fourwins.listener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
+import org.ase.fourwins.journal.GameArchive;
+import org.ase.fourwins.journal.GameJournal;
+import org.ase.fourwins.tournament.listener.TournamentListener;
+
+import lombok.experimental.Delegate;
+
+@OnlyActivateWhenEnvSet("ARCHIVE_DIR")
+public class GameArchiveWithEnv implements TournamentListener {
+
+	@Delegate
+	private final GameJournal delegate;
+
+	public GameArchiveWithEnv() throws IOException {
+		delegate = new GameJournal(GameArchive.open(Paths.get(System.getenv("ARCHIVE_DIR"))));
+	}
+
+}
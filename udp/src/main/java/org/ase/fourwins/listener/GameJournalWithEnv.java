@@ -0,0 +1,22 @@
+package org.ase.fourwins.listener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
+import org.ase.fourwins.journal.GameJournal;
+import org.ase.fourwins.tournament.listener.TournamentListener;
+
+import lombok.experimental.Delegate;
+
+@OnlyActivateWhenEnvSet("JOURNAL_FILE")
+public class GameJournalWithEnv implements TournamentListener {
+
+	@Delegate
+	private final GameJournal delegate;
+
+	public GameJournalWithEnv() throws IOException {
+		delegate = new GameJournal(Paths.get(System.getenv("JOURNAL_FILE")));
+	}
+
+}
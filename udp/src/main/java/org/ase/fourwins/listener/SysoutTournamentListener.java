@@ -11,8 +11,8 @@ import java.util.stream.Stream;
 
 import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
 import org.ase.fourwins.board.Board.GameState;
-import org.ase.fourwins.board.Board.Score;
 import org.ase.fourwins.game.Game;
+import org.ase.fourwins.game.MoveLatencies;
 import org.ase.fourwins.game.Player;
 import org.ase.fourwins.tournament.ScoreSheet;
 import org.ase.fourwins.tournament.listener.TournamentListener;
@@ -24,10 +24,6 @@ public class SysoutTournamentListener implements TournamentListener {
 
 	private final Map<Object, Integer> gamesWon = new ConcurrentHashMap<>();
 
-	private static final double FULL_POINT = 1;
-	private static final double ZERO = 0.0;
-	private static final double HALF_POINT = 0.5;
-
 	@Getter
 	private final ScoreSheet scoreSheet = new ScoreSheet();
 
@@ -39,7 +35,7 @@ public class SysoutTournamentListener implements TournamentListener {
 	@Override
 	public void gameEnded(Game game) {
 		winners(game).forEach(w -> gamesWon.merge(w, 1, Integer::sum));
-		updateScoreSheet(game);
+		scoreSheet.addResult(game);
 	}
 
 	private Stream<Object> winners(Game game) {
@@ -55,28 +51,9 @@ public class SysoutTournamentListener implements TournamentListener {
 		}
 	}
 
-	private void updateScoreSheet(Game game) {
-		Score score = game.gameState().getScore();
-		Object lastToken = game.gameState().getToken();
-		switch (score) {
-		case WIN:
-			addPointForPlayer(game.getPlayerForToken(lastToken), FULL_POINT);
-			game.getOpponentsForToken(lastToken).forEach(p -> addPointForPlayer(p, ZERO));
-			break;
-		case LOSE:
-			addPointForPlayer(game.getPlayerForToken(lastToken), ZERO);
-			game.getOpponentsForToken(lastToken).forEach(p -> addPointForPlayer(p, FULL_POINT));
-			break;
-		case DRAW:
-			game.getPlayers().stream().forEach(p -> addPointForPlayer(p, HALF_POINT));
-			break;
-		default:
-			break;
-		}
-	}
-
-	private void addPointForPlayer(Player player, double value) {
-		scoreSheet.increaseScore(player.getToken(), value);
+	@Override
+	public void seasonEnded(MoveLatencies moveLatencies) {
+		System.out.println("Season ended, latencies:" + System.lineSeparator() + moveLatencies.summary());
 	}
 
 	@Override
@@ -0,0 +1,19 @@
+package org.ase.fourwins.players;
+
+import static org.ase.fourwins.udp.server.UdpServer.DEFAULT_TIMEOUT_MILLIS;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
+import org.ase.fourwins.solver.SolverPlayer;
+
+@OnlyActivateWhenEnvSet("SOLVER_BOT")
+public class SolverPlayerWithEnv extends SolverPlayer {
+
+	public SolverPlayerWithEnv() {
+		super(System.getenv("SOLVER_BOT"), SolverPlayer.timePerMove(Duration.ofMillis(
+				Optional.ofNullable(System.getenv("TIMEOUT")).map(Integer::parseInt).orElse(DEFAULT_TIMEOUT_MILLIS))));
+	}
+
+}
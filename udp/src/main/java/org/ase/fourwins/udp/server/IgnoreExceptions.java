@@ -4,6 +4,7 @@ import static java.lang.Thread.currentThread;
 import static java.lang.reflect.Proxy.newProxyInstance;
 import static lombok.AccessLevel.PRIVATE;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.function.Consumer;
 
@@ -23,7 +24,15 @@ public final class IgnoreExceptions {
 		} catch (Exception e) {
 			exceptionConsumer.accept(e);
 		}
-		return null;
+		return noResult(method.getReturnType());
+	}
+
+	/**
+	 * The proxy cannot return <code>null</code> for primitives, so their default
+	 * value is returned.
+	 */
+	private static Object noResult(Class<?> type) {
+		return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
 	}
 
 }
\ No newline at end of file
@@ -12,6 +12,8 @@ import java.util.ServiceLoader.Provider;
 import java.util.stream.Stream;
 
 import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
+import org.ase.fourwins.game.Player;
+import org.ase.fourwins.solver.ForcedWinAdjudicator;
 import org.ase.fourwins.tournament.DefaultTournament;
 import org.ase.fourwins.tournament.Tournament;
 import org.ase.fourwins.tournament.listener.TournamentListener;
@@ -47,6 +49,12 @@ public class Main {
 			void setValue(UdpServer udpServer, String value) {
 				udpServer.setMinPlayers(parseInt(value));
 			}
+		},
+		CONTINUOUS("CONTINUOUS") {
+			@Override
+			void setValue(UdpServer udpServer, String value) {
+				udpServer.setContinuous(Boolean.parseBoolean(value));
+			}
 		};
 
 		private final String key;
@@ -70,7 +78,20 @@ public class Main {
 		Main main = new Main();
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(main)));
 		EnvVar.setAll(main.udpServer);
-		main.doMain(new DefaultTournament());
+		main.doMain(newTournament());
+	}
+
+	private static DefaultTournament newTournament() {
+		DefaultTournament tournament = new DefaultTournament();
+		String adjudicationDepth = System.getenv("ADJUDICATION_DEPTH");
+		if (adjudicationDepth != null) {
+			tournament.setAdjudicator(new ForcedWinAdjudicator(parseInt(adjudicationDepth)));
+		}
+		String swissRounds = System.getenv("SWISS_ROUNDS");
+		if (swissRounds != null) {
+			tournament.setSwissRounds(parseInt(swissRounds));
+		}
+		return tournament;
 	}
 
 	private static void stop(Main main) {
@@ -85,6 +106,7 @@ public class Main {
 
 	public void doMain(Tournament tournament) {
 		addListeners(tournament);
+		addHousePlayers(udpServer);
 		udpServer.startServer(tournament);
 	}
 
@@ -98,10 +120,18 @@ public class Main {
 	}
 
 	private static Stream<TournamentListener> loadListeners() {
-		return ServiceLoader.load(TournamentListener.class).stream().filter(Main::canLoad).map(Provider::get);
+		return load(TournamentListener.class);
+	}
+
+	private static void addHousePlayers(UdpServer udpServer) {
+		load(Player.class).forEach(udpServer::addHousePlayer);
+	}
+
+	private static <T> Stream<T> load(Class<T> service) {
+		return ServiceLoader.load(service).stream().filter(Main::canLoad).map(Provider::get);
 	}
 
-	private static boolean canLoad(Provider<TournamentListener> provider) {
+	private static boolean canLoad(Provider<?> provider) {
 		OnlyActivateWhenEnvSet annotation = provider.type().getAnnotation(OnlyActivateWhenEnvSet.class);
 		return annotation == null || anyEnvIsSet(annotation.value());
 	}
@@ -13,15 +13,23 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -32,6 +40,7 @@ import java.util.stream.Stream;
 import org.ase.fourwins.board.Board.GameState;
 import org.ase.fourwins.board.BoardInfo;
 import org.ase.fourwins.game.Player;
+import org.ase.fourwins.tournament.Matchmaking;
 import org.ase.fourwins.tournament.Tournament;
 
 import lombok.Getter;
@@ -45,13 +54,15 @@ public class UdpServer {
 
 	public static final int MAX_CLIENT_NAME_LENGTH = 30;
 
+	public static final int DEFAULT_TIMEOUT_MILLIS = 250;
+
 	public static final int UNREGISTER_AFTER_N_TIMEOUTS = 10;
 
 	@Setter
 	private int port = 4446;
 
 	@Setter
-	private int timeoutMillis = 250;
+	private int timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
 
 	@Setter
 	private int delayMillis = 0;
@@ -59,15 +70,36 @@ public class UdpServer {
 	@Setter
 	private int minPlayers = 2;
 
+	/**
+	 * Play continuously instead of season by season, see
+	 * {@link Tournament#startMatchmaking(Consumer)}.
+	 */
+	@Setter
+	private boolean continuous;
+
 	private final Map<UdpPlayerInfo, Player> players = new ConcurrentHashMap<>();
 
+	/** players running inside the server, they join each season */
+	private final List<Player> housePlayers = new CopyOnWriteArrayList<>();
+
 	private final byte[] buf = new byte[1024];
 
 	private final Lock lock = new ReentrantLock();
 	private final Condition newPlayerRegistered = lock.newCondition();
 	private volatile boolean keepSeasonRunning = true;
-
-	private DatagramSocket socket;
+	/** the matchmaking while playing continuously, <code>null</code> otherwise */
+	private volatile Matchmaking matchmaking;
+	/**
+	 * asks the players registering while playing continuously whether they join,
+	 * waiting for the responses for up to the timeout each
+	 */
+	private final ExecutorService joinRequests = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "join-request");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile DatagramSocket socket;
 
 	@Getter
 	@RequiredArgsConstructor
@@ -78,10 +110,18 @@ public class UdpServer {
 		private final Integer port;
 		private final String name;
 		private final ArrayBlockingQueue<String> responses = new ArrayBlockingQueue<>(10);
-		private int timeouts;
+		private final Map<String, CompletableFuture<String>> pendingResponses = new ConcurrentHashMap<>();
+		/** written by the thread receiving and the ones timing out responses */
+		private final AtomicInteger timeouts = new AtomicInteger();
 
 		void reponseReceived(String received) {
-			responses.offer(received);
+			CompletableFuture<String> pendingResponse = pendingResponses
+					.remove(received.substring(received.lastIndexOf(';') + 1));
+			if (pendingResponse == null) {
+				responses.offer(received);
+			} else {
+				pendingResponse.complete(received);
+			}
 		}
 
 		String getResponse(String delimiter, String uuid) throws TimeoutException {
@@ -90,16 +130,12 @@ public class UdpServer {
 				while (true) {
 					String response = responses.poll(timeoutAt - currentTimeMillis(), MILLISECONDS);
 					if (response == null) {
-						if (timeouts++ >= UNREGISTER_AFTER_N_TIMEOUTS) {
-							System.out.println("Deregistering " + name + " because of too many timeouts in a row");
-							handleUnregisterCommand(this);
-						}
-						throw new TimeoutException("Timeout while waiting for response for UUID " + uuid);
+						throw timedOut(uuid);
 					}
-					timeouts = 0;
+					timeouts.set(0);
 					String[] splitted = response.split(delimiter);
 					if (splitted.length > 1 && splitted[splitted.length - 1].equals(uuid)) {
-						return stream(splitted).limit(splitted.length - 1).collect(joining(delimiter));
+						return withoutUuid(splitted, delimiter);
 					}
 				}
 			} catch (InterruptedException e) {
@@ -107,6 +143,18 @@ public class UdpServer {
 			}
 		}
 
+		private TimeoutException timedOut(String uuid) {
+			if (timeouts.incrementAndGet() == UNREGISTER_AFTER_N_TIMEOUTS + 1) {
+				System.out.println("Deregistering " + name + " because of too many timeouts in a row");
+				handleUnregisterCommand(this);
+			}
+			return new TimeoutException("Timeout while waiting for response for UUID " + uuid);
+		}
+
+		private String withoutUuid(String[] splitted, String delimiter) {
+			return stream(splitted).limit(splitted.length - 1).collect(joining(delimiter));
+		}
+
 		void send(String command, Object... parts) {
 			send(concat(Stream.of(command), stream(parts)).map(e -> e == null ? "" : String.valueOf(e))
 					.collect(joining(";")));
@@ -128,6 +176,27 @@ public class UdpServer {
 			return getResponse(delimiter, uuid);
 		}
 
+		/**
+		 * Like {@link #sendAndWait(String)} but without blocking: The response is
+		 * passed to the returned future by the thread receiving it.
+		 */
+		CompletableFuture<String> sendAsync(String command) {
+			String delimiter = ";";
+			String uuid = uuid();
+			CompletableFuture<String> response = new CompletableFuture<>();
+			pendingResponses.put(uuid, response);
+			send(command + delimiter + uuid);
+			return response.orTimeout(timeoutMillis, MILLISECONDS).handle((r, e) -> {
+				pendingResponses.remove(uuid);
+				if (e != null) {
+					Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+					throw new CompletionException(cause instanceof TimeoutException ? timedOut(uuid) : cause);
+				}
+				timeouts.set(0);
+				return withoutUuid(r.split(delimiter), delimiter);
+			});
+		}
+
 		private String uuid() {
 			String uuid = UUID.randomUUID().toString();
 			int pos = uuid.indexOf("-");
@@ -159,18 +228,26 @@ public class UdpServer {
 		@Override
 		protected int nextColumn() {
 			try {
-				String response = playerInfo.sendAndWait("YOURTURN");
-				if (!response.startsWith("INSERT;")) {
-					throw new IllegalArgumentException("Unexpected response " + response);
-				}
-				String[] split = response.split(";");
-				if (split.length < 2) {
-					throw new IllegalArgumentException("Unexpected response " + response);
-				}
-				return Integer.parseInt(split[1]);
-			} catch (TimeoutException e) {
-				throw new IllegalArgumentException(e.getMessage());
+				return nextColumnAsync().toCompletableFuture().join();
+			} catch (CompletionException e) {
+				throw new IllegalArgumentException(e.getCause().getMessage());
+			}
+		}
+
+		@Override
+		protected CompletionStage<Integer> nextColumnAsync() {
+			return playerInfo.sendAsync("YOURTURN").thenApply(this::column);
+		}
+
+		private int column(String response) {
+			if (!response.startsWith("INSERT;")) {
+				throw new IllegalArgumentException("Unexpected response " + response);
+			}
+			String[] split = response.split(";");
+			if (split.length < 2) {
+				throw new IllegalArgumentException("Unexpected response " + response);
 			}
+			return Integer.parseInt(split[1]);
 		}
 
 		@Override
@@ -198,18 +275,13 @@ public class UdpServer {
 			System.out.println("Tournament starting");
 			while (keepSeasonRunning) {
 				if (players.size() < minPlayers) {
-					try {
-						lock.lock();
-						newPlayerRegistered.await(5, SECONDS);
-					} catch (InterruptedException e) {
-						Thread.currentThread().interrupt();
-					} finally {
-						lock.unlock();
-					}
+					awaitNewPlayer();
 					System.out.println("Waiting for more players to join");
+				} else if (continuous) {
+					playContinuously(tournament);
 				} else {
-					tournament.playSeason(players.entrySet().parallelStream().filter(this::wantToJoin)
-							.map(Entry::getValue).collect(toList()), noop());
+					tournament.playSeason(concat(players.entrySet().parallelStream().filter(this::wantToJoin)
+							.map(Entry::getValue), housePlayers.stream()).collect(toList()), noop());
 				}
 			}
 			socket.close();
@@ -217,11 +289,66 @@ public class UdpServer {
 		}).start();
 	}
 
+	/**
+	 * Plays until stopped without seasons: the house players and the registered
+	 * players wanting to join are entered into the {@link Matchmaking} and play
+	 * as soon as they got paired. Players registering meanwhile are asked to join
+	 * right away instead of waiting for the next season.
+	 */
+	private void playContinuously(Tournament tournament) {
+		Matchmaking matchmaking = tournament.startMatchmaking(noop());
+		this.matchmaking = matchmaking;
+		housePlayers.forEach(matchmaking::enter);
+		players.entrySet().parallelStream().filter(this::wantToJoin).map(Entry::getValue)
+				.forEach(matchmaking::enter);
+		while (keepSeasonRunning) {
+			awaitNewPlayer();
+		}
+		this.matchmaking = null;
+		try {
+			matchmaking.stop();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitNewPlayer() {
+		try {
+			lock.lock();
+			newPlayerRegistered.await(5, SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Adds a player running inside the server, e.g. a bot to compare the
+	 * registered players with. House players join each season (when there are
+	 * enough registered players to start one) and are asked for their moves
+	 * directly, without any network I/O.
+	 */
+	public UdpServer addHousePlayer(Player player) {
+		housePlayers.add(player);
+		System.out.println("House player " + player.getToken() + " added");
+		return this;
+	}
+
 	public void stop() {
 		System.out.println("Tournament will stop");
 		keepSeasonRunning = false;
 	}
 
+	/**
+	 * Returns <code>true</code> once the server's socket is bound (and until it
+	 * is closed).
+	 */
+	public boolean isListening() {
+		DatagramSocket socket = this.socket;
+		return socket != null && !socket.isClosed();
+	}
+
 	public void stopAndAwaitSocketClosed() throws InterruptedException {
 		stop();
 		while (!socket.isClosed()) {
@@ -250,11 +377,15 @@ public class UdpServer {
 	}
 
 	private boolean wantToJoin(Entry<UdpPlayerInfo, Player> p) {
+		return wantToJoin(p.getKey(), p.getValue());
+	}
+
+	private boolean wantToJoin(UdpPlayerInfo playerInfo, Player player) {
 		try {
-			return "JOIN".equals(p.getKey().sendAndWait("NEW SEASON"));
+			return "JOIN".equals(playerInfo.sendAndWait("NEW SEASON"));
 		} catch (Exception e) {
 			System.out.println("Exception while retrieving response for " + "NEW SEASON" + " for "
-					+ p.getValue().getToken() + ": " + e.getMessage());
+					+ player.getToken() + ": " + e.getMessage());
 			return false;
 		}
 	}
@@ -303,7 +434,7 @@ public class UdpServer {
 				return;
 			}
 			handleRegisterCommand(findBy(inetAddressAndName(clientIp, playerName)).map(i -> {
-				players.remove(i);
+				leaveMatchmaking(players.remove(i));
 				return newPlayer(clientIp, clientPort, playerName, timeoutMillis);
 			}).orElseGet(() -> newPlayer(clientIp, clientPort, playerName, timeoutMillis)));
 		} else {
@@ -341,7 +472,7 @@ public class UdpServer {
 
 	private void handleRegisterCommand(UdpPlayerInfo playerInfo) {
 		Player player = new UdpPlayer(playerInfo);
-		if (players.putIfAbsent(playerInfo, player) != null) {
+		if (isHousePlayer(playerInfo.getName()) || players.putIfAbsent(playerInfo, player) != null) {
 			playerInfo.send("NAME_ALREADY_TAKEN");
 			return;
 		}
@@ -355,13 +486,34 @@ public class UdpServer {
 		} finally {
 			lock.unlock();
 		}
+		Matchmaking matchmaking = this.matchmaking;
+		if (matchmaking != null) {
+			// the response is received by this thread so wait for it on another one
+			joinRequests.execute(() -> {
+				if (wantToJoin(playerInfo, player)) {
+					matchmaking.enter(player);
+				}
+			});
+		}
+	}
+
+	private boolean isHousePlayer(String name) {
+		return housePlayers.stream().map(Player::getToken).anyMatch(name::equals);
 	}
 
 	private void handleUnregisterCommand(UdpPlayerInfo playerInfo) {
 		Player removed = players.remove(playerInfo);
+		leaveMatchmaking(removed);
 		playerInfo.send("UNREGISTERED");
 		System.out.println(
 				"Player " + removed.getToken() + " unregistered, we now have " + players.size() + " player(s)");
 	}
 
+	private void leaveMatchmaking(Player player) {
+		Matchmaking matchmaking = this.matchmaking;
+		if (matchmaking != null && player != null) {
+			matchmaking.leave(player);
+		}
+	}
+
 }
@@ -2,12 +2,15 @@ package org.ase.fourwins.udp.server;
 
 import static com.github.stefanbirkner.systemlambda.SystemLambda.withEnvironmentVariable;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.ase.fourwins.udp.server.UdpServer.MAX_CLIENT_NAME_LENGTH;
 import static org.ase.fourwins.udp.server.listeners.TournamentListenerEnabled2.ENV_NAME_TO_BE_SET;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
@@ -15,9 +18,7 @@ import java.net.ServerSocket;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
@@ -27,11 +28,14 @@ import org.ase.fourwins.board.BoardInfo;
 import org.ase.fourwins.board.BoardInfo.BoardInfoBuilder;
 import org.ase.fourwins.board.Move.DefaultMove;
 import org.ase.fourwins.game.Player;
+import org.ase.fourwins.tournament.DefaultTournament;
+import org.ase.fourwins.tournament.Matchmaking;
 import org.ase.fourwins.tournament.Tournament;
 import org.ase.fourwins.tournament.listener.TournamentListener;
 import org.ase.fourwins.udp.server.listeners.TournamentListenerDisabled;
 import org.ase.fourwins.udp.server.listeners.TournamentListenerEnabled;
 import org.ase.fourwins.udp.server.listeners.TournamentListenerEnabled2;
+import org.ase.fourwins.udp.server.players.HousePlayerEnabled;
 import org.ase.fourwins.udp.udphelper.UdpCommunicator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -52,6 +56,7 @@ public class MainTest {
 		private boolean blockOnPlaySeasonCall;
 		private int seasons;
 		private GameState state;
+		private volatile List<String> tokens = List.of();
 
 		@Override
 		public void addTournamentListener(TournamentListener listener) {
@@ -66,6 +71,7 @@ public class MainTest {
 		@Override
 		public void playSeason(Collection<? extends Player> players, Consumer<GameState> consumer) {
 			this.seasons++;
+			this.tokens = players.stream().map(Player::getToken).collect(toList());
 			if (this.state != null) {
 				players.forEach(p -> p.gameEnded(state));
 			}
@@ -74,6 +80,11 @@ public class MainTest {
 			}
 		}
 
+		@Override
+		public Matchmaking startMatchmaking(Consumer<GameState> consumer) {
+			throw new UnsupportedOperationException("the fake plays seasons only");
+		}
+
 		private static void waitForever() {
 			try {
 				Object object = new Object();
@@ -146,52 +157,47 @@ public class MainTest {
 
 	private final int serverPort = freePort();
 	private int minPlayers = 2;
+	private boolean continuous;
+	private UdpServer udpServer;
 
 	private final FakeTournament fakeTournament = new FakeTournament();
 
 	private Main runMainInBackground() {
+		return runMainInBackground(fakeTournament);
+	}
 
-		final Lock lock = new ReentrantLock();
-		final Condition serverIsReady = lock.newCondition();
+	private Main runMainInBackground(Tournament tournament) {
+
+		final CountDownLatch serverIsReady = new CountDownLatch(1);
 
 		Main main = new Main() {
 			@Override
 			protected UdpServer createUdpServer() {
-				return new UdpServer() {
+				return udpServer = new UdpServer() {
 					@Override
 					protected void playSeasonsForever(Tournament tournament) {
-						signalReady();
+						serverIsReady.countDown();
 						super.playSeasonsForever(tournament);
 					}
-
-					private void signalReady() {
-						lock.lock();
-						try {
-							serverIsReady.signal();
-						} finally {
-							lock.unlock();
-						}
-					}
-				}.setPort(serverPort).setMinPlayers(minPlayers);
+				}.setPort(serverPort).setMinPlayers(minPlayers).setContinuous(continuous);
 			}
 		};
 		runInBackground(() -> {
 			try {
-				withEnvironmentVariable(ENV_NAME_TO_BE_SET, "anyValue").execute(() -> main.doMain(fakeTournament));
+				withEnvironmentVariable(ENV_NAME_TO_BE_SET, "anyValue").execute(() -> main.doMain(tournament));
 			} catch (Exception e) {
 				throw new RuntimeException(e);
 			}
 		});
-		waitReady(lock, serverIsReady);
+		waitReady(serverIsReady);
 		return main;
 	}
 
-	private void waitReady(Lock lock, Condition ready) {
-		lock.lock();
+	private void waitReady(CountDownLatch ready) {
 		try {
-			ready.awaitUninterruptibly();
-		} finally {
-			lock.unlock();
+			ready.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -343,6 +349,37 @@ public class MainTest {
 		assertThat(TournamentListenerEnabled2.isConstructorCalled(), is(true));
 	}
 
+	@Test
+	void housePlayersLoadedByServiceLoaderJoinTheSeasons() throws IOException {
+		minPlayers = 1;
+		runMainInBackground();
+		setupInfiniteSeason();
+		assertWelcomed(newPlayingClientWithName("1"));
+
+		assertTournamentStartet();
+		assertThat(fakeTournament.tokens(), containsInAnyOrder("1", HousePlayerEnabled.TOKEN));
+	}
+
+	@Test
+	void playersRegisteringWhilePlayingContinuouslyDoNotWaitForTheNextSeason()
+			throws IOException, InterruptedException {
+		minPlayers = 1;
+		continuous = true;
+		runMainInBackground(new DefaultTournament());
+		assertWelcomed(newPlayingClientWithName("1"));
+		DummyClient client2 = newPlayingClientWithName("2");
+
+		await().until(client2::getReceived, hasItem(startsWith("NEW GAME;")));
+		udpServer.stopAndAwaitSocketClosed();
+	}
+
+	@Test
+	void clientsCannotRegisterWithTheNameOfAHousePlayer() throws IOException {
+		runMainInBackground();
+		setupInfiniteSeason();
+		newClientWithName(HousePlayerEnabled.TOKEN).assertReceived("NAME_ALREADY_TAKEN");
+	}
+
 	private static Board makeWinBoard(String winnerToken) {
 		return aBoard(oneOfOne().toConnect(1)).insertToken(new DefaultMove(0), winnerToken);
 	}
@@ -59,6 +59,7 @@ public class UdpServerRealTournamentIT {
 	private UdpServer udpServerInBackground() {
 		UdpServer udpServer = new UdpServer().setPort(serverPort).setTimeoutMillis(UDP_TIMEOUT_MILLIS);
 		runInBackground(() -> udpServer.startServer(tournament));
+		await().until(udpServer::isListening);
 		return udpServer;
 	}
 
@@ -0,0 +1,20 @@
+package org.ase.fourwins.udp.server.players;
+
+import org.ase.fourwins.annos.OnlyActivateWhenEnvSet;
+import org.ase.fourwins.game.Player;
+
+@OnlyActivateWhenEnvSet("envNameThatIsNotSet")
+public class HousePlayerDisabled extends Player {
+
+	public static final String TOKEN = "DisabledHousePlayer";
+
+	public HousePlayerDisabled() {
+		super(TOKEN);
+	}
+
+	@Override
+	protected int nextColumn() {
+		return 0;
+	}
+
+}
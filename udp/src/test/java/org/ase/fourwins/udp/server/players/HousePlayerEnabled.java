@@ -0,0 +1,18 @@
+package org.ase.fourwins.udp.server.players;
+
+import org.ase.fourwins.game.Player;
+
+public class HousePlayerEnabled extends Player {
+
+	public static final String TOKEN = "HousePlayer";
+
+	public HousePlayerEnabled() {
+		super(TOKEN);
+	}
+
+	@Override
+	protected int nextColumn() {
+		return 0;
+	}
+
+}